@@ -2,11 +2,15 @@ package com.mefi.backend.api.controller;
 
 import com.mefi.backend.api.request.ConferenceCreateReqDto;
 import com.mefi.backend.api.request.ConferenceModifyAllReqDto;
-import com.mefi.backend.api.response.ConferenceResDto;
 import com.mefi.backend.api.response.ConferenceDetailResDto;
+import com.mefi.backend.api.response.ConferenceMemberStatResDto;
+import com.mefi.backend.api.response.ConferencePageResDto;
+import com.mefi.backend.api.response.ConferenceTeamStatResDto;
 import com.mefi.backend.api.service.ConferenceService;
+import com.mefi.backend.api.service.ConferenceStatService;
 import com.mefi.backend.common.auth.CustomUserDetails;
 import com.mefi.backend.common.model.BaseResponseBody;
+import com.mefi.backend.db.entity.ConferenceStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,12 +19,14 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -32,6 +38,7 @@ import java.util.List;
 public class ConferenceController {
 
     private final ConferenceService conferenceService;
+    private final ConferenceStatService conferenceStatService;
 
     @Operation(summary = "회의 생성", description = "api/meeting/\n\n 리더는 회의를 생성 가능하다.")
     @PostMapping("")
@@ -53,26 +60,63 @@ public class ConferenceController {
     }
 
     @GetMapping("/{teamId}")
-    @Operation(summary = "팀 회의 이력 조회 API", description = "주어진 기간동안의 팀 회의 이력을 반환한다")
-    @ApiResponse(responseCode = "200", description = "성공 시 상태 코드 200와 회의 이력 리스트 반환")
+    @Operation(summary = "팀 회의 이력 조회 API", description = "주어진 기간동안의 팀 회의 이력을 최신순으로 커서 단위로 반환한다. 다음 페이지는 응답의 nextCursorTime, nextCursorId를 cursorTime, cursorId로 전달한다")
+    @ApiResponse(responseCode = "200", description = "성공 시 상태 코드 200와 회의 이력 페이지 반환")
     public ResponseEntity<? extends BaseResponseBody> getConferenceHistory(
             Authentication authentication,
             @PathVariable("teamId") Long teamId,
             @RequestParam("start") String start,
-            @RequestParam("end") String end
+            @RequestParam("end") String end,
+            @RequestParam(name = "status", required = false) ConferenceStatus status,
+            @RequestParam(name = "cursorTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorTime,
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam(name = "size", required = false) Integer size
     ){
 
         // 로그인된 유저 정보 조회
         CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
 
         // 팀 회의 이력 조회
-        List<ConferenceResDto> histories = conferenceService.getConferenceHistory(user.getUserId(), teamId, start, end);
-        log.info("조회된 회의 이력 개수 : {}", histories.size());
+        ConferencePageResDto histories = conferenceService.getConferenceHistory(user.getUserId(), teamId, start, end, status, cursorTime, cursorId, size);
+        log.info("조회된 회의 이력 개수 : {}", histories.getConferences().size());
         
         // 반환
         return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, histories));
     }
 
+    @GetMapping("/stats/{teamId}")
+    @Operation(summary = "팀 주간 회의 통계 조회 API", description = "주어진 기간(yyyyMMdd)이 속한 주들의 회의 수와 회의 시간(분)을 주 시작일(월요일) 순으로 반환한다")
+    @ApiResponse(responseCode = "200", description = "성공 시 상태 코드 200와 주간 회의 통계 반환")
+    public ResponseEntity<? extends BaseResponseBody> getTeamStats(
+            Authentication authentication,
+            @PathVariable("teamId") Long teamId,
+            @RequestParam("start") String start,
+            @RequestParam("end") String end
+    ){
+        // 로그인된 유저 정보 조회
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+
+        // 팀 주간 회의 통계 조회
+        List<ConferenceTeamStatResDto> stats = conferenceStatService.getTeamStats(user.getUserId(), teamId, start, end);
+        return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, stats));
+    }
+
+    @GetMapping("/stats/{teamId}/members")
+    @Operation(summary = "팀원별 주간 회의 통계 조회 API", description = "주어진 날짜(yyyyMMdd)가 속한 주의 팀원별 회의 수와 회의 시간(분)을 회의 시간이 많은 순으로 반환한다")
+    @ApiResponse(responseCode = "200", description = "성공 시 상태 코드 200와 팀원별 회의 통계 반환")
+    public ResponseEntity<? extends BaseResponseBody> getMemberStats(
+            Authentication authentication,
+            @PathVariable("teamId") Long teamId,
+            @RequestParam("day") String day
+    ){
+        // 로그인된 유저 정보 조회
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+
+        // 팀원별 주간 회의 통계 조회
+        List<ConferenceMemberStatResDto> stats = conferenceStatService.getMemberStats(user.getUserId(), teamId, day);
+        return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, stats));
+    }
+
     @Operation(summary = "회의 상세 조회", description = "api/meeting/detail/{conferenceId}\n\n 사용자는 자신이 포홤된 회의에 대한 정보를 상세하게 조회 할 수 있다.")
     @GetMapping("/detail/{conferenceId}")
     @ApiResponse(responseCode = "200", description = "성공 \n\n 회의 상세 조회 내용 반환")
@@ -1,11 +1,16 @@
 package com.mefi.backend.api.controller;
 
+import com.mefi.backend.api.request.NotiFilter;
+import com.mefi.backend.api.request.NotiReadReqDto;
+import com.mefi.backend.api.response.NotiCountResponseDto;
+import com.mefi.backend.api.response.NotiPageResponseDto;
 import com.mefi.backend.api.response.NotiResponseDto;
 import com.mefi.backend.api.service.NotiService;
 import com.mefi.backend.common.auth.CustomUserDetails;
 import com.mefi.backend.common.model.BaseResponseBody;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -13,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -29,13 +35,17 @@ public class NotiController {
 
     @GetMapping(value="/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @Operation(summary = "SSE 연결 API", description = "서버에서 클라이언트에 실시간 알림을 전송하기 위한 SSE Emitter 생성")
-    public ResponseEntity<SseEmitter> createSseConnection( Authentication authentication,  @RequestParam(name = "lastEventId", required = false) String lastEventId){
+    public ResponseEntity<SseEmitter> createSseConnection( Authentication authentication,  @RequestParam(name = "lastEventId", required = false) String lastEventId,
+                                                          @RequestHeader(name = "Last-Event-ID", required = false) String lastEventIdHeader){
 
         // 현재 사용자의 식별 ID 조회
         CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
         log.info("User ID : {}", user.getUserId());
         log.info("Authentication : {}", authentication);
 
+        // 연결 만료 후 브라우저가 자동 재연결하는 경우 헤더로 전달된 Last-Event-ID 사용, 클라이언트는 빈 쿼리 파라미터를 함께 보낸다
+        if(!StringUtils.hasText(lastEventId)) lastEventId = lastEventIdHeader;
+
         // SSE Emitter 생성
         SseEmitter sseEmitter = notiService.createSseConnection(user.getUserId(), lastEventId);
         log.info("SSE Emitter : {}", sseEmitter);
@@ -57,6 +67,43 @@ public class NotiController {
         return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, notiList));
     }
 
+    @GetMapping("/history")
+    @Operation(summary = "알림 목록 조회 API", description = "사용자의 알림을 최신순으로 커서 단위로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다")
+    public ResponseEntity<? extends BaseResponseBody> getNotiHistory(Authentication authentication,
+                                                                     @RequestParam(name = "cursor", required = false) Long cursor,
+                                                                     @RequestParam(name = "filter", defaultValue = "ALL") NotiFilter filter,
+                                                                     @RequestParam(name = "size", required = false) Integer size){
+        // 현재 사용자의 식별 ID 조회
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+
+        // 커서 이전의 알림 조회
+        NotiPageResponseDto page = notiService.getNotiHistory(user.getUserId(), cursor, filter, size);
+        return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, page));
+    }
+
+    @GetMapping("/count")
+    @Operation(summary = "읽지 않은 알림 개수 조회 API", description = "사용자가 읽지 않은 알림의 개수만 조회합니다")
+    public ResponseEntity<? extends BaseResponseBody> getUnreadCount(Authentication authentication){
+        // 현재 사용자의 식별 ID 조회
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+
+        // 읽지 않은 알림 개수 조회
+        int count = notiService.getUnreadCount(user.getUserId());
+        return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, new NotiCountResponseDto(count)));
+    }
+
+    @PatchMapping("/read")
+    @Operation(summary = "알림 일괄 읽음 API", description = "알림 ID 목록 또는 이벤트 ID 기준으로 여러 알림을 한 번에 읽음 처리합니다.")
+    public ResponseEntity<? extends BaseResponseBody> readNotis(Authentication authentication, @RequestBody @Valid NotiReadReqDto notiReadReqDto){
+        // 현재 사용자의 식별 ID 조회
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+        log.info("User ID : {}", user.getUserId());
+
+        // 여러 알림 읽음 처리
+        int count = notiService.readNotis(user.getUserId(), notiReadReqDto);
+        return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, count));
+    }
+
     @PatchMapping("/{alarmId}")
     @Operation(summary = "알림 읽음 API", description = "사용자가 읽지 않은 특정 알림을 읽음 처리합니다.")
     public ResponseEntity<? extends BaseResponseBody> readNoti(Authentication authentication,  @PathVariable(name = "alarmId") Long alarmId){
@@ -1,8 +1,10 @@
 package com.mefi.backend.api.controller;
 
 import com.mefi.backend.api.request.ScheduleReqDto;
+import com.mefi.backend.api.response.FreeSlotResDto;
 import com.mefi.backend.api.response.ScheduleCalResDto;
 import com.mefi.backend.api.response.ScheduleDetailResDto;
+import com.mefi.backend.api.response.ScheduleHeatmapResDto;
 import com.mefi.backend.api.response.ScheduleResDto;
 import com.mefi.backend.api.response.ScheduleTimeDto;
 import com.mefi.backend.api.service.ScheduleService;
@@ -92,7 +94,8 @@ public class ScheduleController {
     @ApiResponse(responseCode = "200", description = "성공 시 상태 코드 200와 모든 멤버의 해당 일자 일정 정보")
     public ResponseEntity<? extends BaseResponseBody> getAllMemberSchedule(Authentication authentication,
                                                                            @PathVariable("teamId") Long teamId,
-                                                                           @RequestParam(name = "day") String day){
+                                                                           @RequestParam(name = "day") String day,
+                                                                           @RequestParam(name = "view", defaultValue = "list") String view){
 
         log.info("=======================ScheduleController-getAllMemberSchedule()=======================");
 
@@ -104,6 +107,12 @@ public class ScheduleController {
         log.info("teamId : {} ", teamId);
         log.info("start : {} ", day);
 
+        // 히트맵 형식 요청 시 15분 단위 히트맵 반환
+        if("heatmap".equals(view)){
+            ScheduleHeatmapResDto heatmap = scheduleService.getTeamHeatmaps(user.getUserId(), List.of(teamId), day).get(0);
+            return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, heatmap));
+        }
+
         // 팀원 전체 일정 조회 서비스 호출 및 사용자, 팀 식별자와 조회 일자 전달
         List<ScheduleTimeDto> result = scheduleService.getAllMemberSchedule(user.getUserId(), teamId, day);
 
@@ -111,6 +120,40 @@ public class ScheduleController {
         return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, result));
     }
 
+    @GetMapping("/heatmap")
+    @Operation(summary = "여러 팀 일정 히트맵 조회", description = "여러 팀(최대 20개)의 해당 일자 일정을 15분 단위 히트맵으로 한 번에 조회한다. 일자는 yyyyMMdd 형식")
+    @ApiResponse(responseCode = "200", description = "성공 시 상태 코드 200와 팀별 히트맵 리스트 반환")
+    public ResponseEntity<? extends BaseResponseBody> getTeamHeatmaps(Authentication authentication,
+                                                                      @RequestParam(name = "teamIds") List<Long> teamIds,
+                                                                      @RequestParam(name = "day") String day){
+        // 로그인 된 유저 정보 조회
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+
+        // 팀별 히트맵 조회
+        List<ScheduleHeatmapResDto> result = scheduleService.getTeamHeatmaps(user.getUserId(), teamIds, day);
+        return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, result));
+    }
+
+    @GetMapping("/{teamId}/free-slots")
+    @Operation(summary = "팀원 공통 빈 시간 조회", description = "기간 내 근무 시간 중 팀원 전체 또는 정족수 이상이 함께 비어있는 시간대를 이른 순으로 조회한다.")
+    @ApiResponse(responseCode = "200", description = "성공 시 상태 코드 200와 빈 시간대 리스트 반환")
+    public ResponseEntity<? extends BaseResponseBody> findFreeSlots(Authentication authentication,
+                                                                    @PathVariable("teamId") Long teamId,
+                                                                    @RequestParam(name = "start") String start,
+                                                                    @RequestParam(name = "end") String end,
+                                                                    @RequestParam(name = "minutes", defaultValue = "60") int minutes,
+                                                                    @RequestParam(name = "workStart", defaultValue = "0900") String workStart,
+                                                                    @RequestParam(name = "workEnd", defaultValue = "1800") String workEnd,
+                                                                    @RequestParam(name = "quorum", required = false) Integer quorum,
+                                                                    @RequestParam(name = "limit", defaultValue = "5") int limit){
+        // 로그인 된 유저 정보 조회
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+
+        // 빈 시간대 조회
+        List<FreeSlotResDto> result = scheduleService.findFreeSlots(user.getUserId(), teamId, start, end, minutes, workStart, workEnd, quorum, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, result));
+    }
+
     @PatchMapping("/{scheduleId}")
     @Operation(summary = "개인 일정 수정", description = "새로운 개인 일정 정보를 받아 DB에 수정한다.")
     @ApiResponse(responseCode = "200", description = "성공 시 상태 코드 200와 SUCCESS 반환")
@@ -80,7 +80,7 @@ public class UserController {
         tokenService.deleteRefreshToken(token);
 
         // 해당 유저의 SseEmitter 모두 제거
-        notiRepository.deleteEmittersByUserId(String.valueOf(userDetails.getUserId()));
+        notiRepository.deleteEmittersByUserId(userDetails.getUserId());
         return ResponseEntity.status(HttpStatus.OK).body(BaseResponseBody.of(0, "Success"));
     }
 
@@ -0,0 +1,78 @@
+package com.mefi.backend.api.event;
+
+import com.mefi.backend.db.entity.Noti;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 애플리케이션 컨텍스트끼리 알림을 전달하는 버스
+ * 외부 저장소 없이 여러 노드를 흉내내야 하는 테스트나 단일 서버 환경에서 사용한다
+ */
+@Component
+@ConditionalOnProperty(name = "noti.bus.type", havingValue = "memory")
+public class InMemoryNotiBus implements NotiBus {
+
+    // 같은 JVM의 모든 버스 인스턴스가 공유하는 구독 목록
+    private static final List<InMemoryNotiBus> BUSES = new CopyOnWriteArrayList<>();
+
+    private final List<BiConsumer<List<Long>, List<Noti>>> handlers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<List<Long>>> unreadCountHandlers = new CopyOnWriteArrayList<>();
+
+    public InMemoryNotiBus() {
+        BUSES.add(this);
+    }
+
+    @Override
+    public void publish(List<Long> userIds, List<Noti> notis) {
+        afterCommit(() -> deliver(userIds, notis));
+    }
+
+    @Override
+    public void subscribe(BiConsumer<List<Long>, List<Noti>> handler) {
+        handlers.add(handler);
+    }
+
+    @Override
+    public void publishUnreadCountChanged(List<Long> userIds) {
+        afterCommit(() -> {
+            for(InMemoryNotiBus bus : BUSES){
+                if(bus == this) continue;
+                bus.unreadCountHandlers.forEach(handler -> handler.accept(userIds));
+            }
+        });
+    }
+
+    @Override
+    public void subscribeUnreadCountChanged(Consumer<List<Long>> handler) {
+        unreadCountHandlers.add(handler);
+    }
+
+    // 발행한 버스를 제외한 다른 버스의 핸들러에 전달
+    private void deliver(List<Long> userIds, List<Noti> notis) {
+        for(InMemoryNotiBus bus : BUSES){
+            if(bus == this) continue;
+            bus.handlers.forEach(handler -> handler.accept(userIds, notis));
+        }
+    }
+
+    // 트랜잭션 안이라면 커밋 이후에 전달
+    private void afterCommit(Runnable task) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
@@ -0,0 +1,163 @@
+package com.mefi.backend.api.event;
+
+import com.mefi.backend.db.entity.Noti;
+import com.mefi.backend.db.repository.NotiOutboxRepository;
+import com.mefi.backend.db.repository.OutboxNoti;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 기존 MySQL DB의 아웃박스 테이블로 알림을 전달하는 버스
+ * 알림과 같은 트랜잭션으로 아웃박스에 기록하고, 각 노드는 커서 이후를 주기적으로 조회한다
+ * AUTO_INCREMENT 식별 ID는 커밋이 아닌 INSERT 시점에 정해지므로 더 작은 ID가 나중에 커밋될 수 있다
+ * 따라서 새 행은 마지막으로 읽은 ID 이후만 조회하고, 건너뛴 ID만 빈 번호로 기록해 식별 ID로 다시 조회한다
+ * 커서는 앞에서부터 이어서 전달한 ID까지 옮기며, 커밋 대기 시간이 지나도 채워지지 않은 빈 번호는 롤백된 것으로 보고 건너뛴다
+ * 알림이 없는 행은 읽음 처리로 읽지 않은 알림 개수가 바뀐 유저를 알린다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "noti.bus.type", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcNotiBus implements NotiBus {
+
+    private final NotiOutboxRepository notiOutboxRepository;
+    private final List<BiConsumer<List<Long>, List<Noti>>> handlers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<List<Long>>> unreadCountHandlers = new CopyOnWriteArrayList<>();
+    private final String nodeId = UUID.randomUUID().toString(); // 현재 노드 ID
+    private final TreeMap<Long, LocalDateTime> gaps = new TreeMap<>(); // 마지막으로 읽은 ID 이전의 아직 보이지 않는 ID와 처음 건너뛴 시각
+    private long scanned; // 마지막으로 읽은 아웃박스 식별 ID
+    private long cursor; // 이 ID까지는 모두 전달했거나 건너뛰어 다시 읽지 않는다
+
+    @Value("${noti.bus.poll-size:500}")
+    private int pollSize; // 한 번에 조회할 아웃박스 행 수
+
+    @Value("${noti.bus.retention-minutes:10}")
+    private long retentionMinutes; // 아웃박스 보관 시간
+
+    @Value("${noti.bus.commit-lag-seconds:30}")
+    private long commitLagSeconds; // 기록 이후 커밋될 때까지 기다리는 시간, 이보다 늦게 커밋된 행은 전달되지 않는다
+
+    // 시작 시점 이후에 발행된 알림만 전달, 커밋 대기 구간의 이미 보이는 행은 전달한 것으로 처리하고 빈 번호만 기다린다
+    @PostConstruct
+    protected void initCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        gaps.clear();
+        scanned = notiOutboxRepository.findMaxIdCreatedBefore(now.minusSeconds(commitLagSeconds));
+        List<OutboxNoti> rows;
+        do{
+            rows = notiOutboxRepository.findAfter(scanned, pollSize);
+            rows.forEach(row -> scan(row, now));
+        }while(rows.size() == pollSize);
+        advanceCursor();
+        log.info("Notification Bus Node : {}, Cursor : {}, Gaps : {}", nodeId, cursor, gaps.size());
+    }
+
+    @Override
+    public void publish(List<Long> userIds, List<Noti> notis) {
+        notiOutboxRepository.saveAllInBatch(nodeId, userIds, notis);
+    }
+
+    @Override
+    public void subscribe(BiConsumer<List<Long>, List<Noti>> handler) {
+        handlers.add(handler);
+    }
+
+    @Override
+    public void publishUnreadCountChanged(List<Long> userIds) {
+        notiOutboxRepository.saveUnreadCountChanges(nodeId, userIds);
+    }
+
+    @Override
+    public void subscribeUnreadCountChanged(Consumer<List<Long>> handler) {
+        unreadCountHandlers.add(handler);
+    }
+
+    // 다른 노드에서 발행된 알림을 주기적으로 조회하여 전달
+    @Scheduled(fixedDelayString = "${noti.bus.poll-interval-ms:500}")
+    protected void poll() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 늦게 커밋되어 빈 번호를 채운 행만 식별 ID로 다시 조회
+        if(!gaps.isEmpty()){
+            List<Long> gapIds = new ArrayList<>(gaps.keySet());
+            for(int from = 0; from < gapIds.size(); from += pollSize){
+                List<OutboxNoti> filled = notiOutboxRepository.findByIds(gapIds.subList(from, Math.min(from + pollSize, gapIds.size())));
+                filled.forEach(row -> gaps.remove(row.getId()));
+                deliver(filled);
+            }
+
+            // 커밋 대기 시간이 지나도 채워지지 않은 빈 번호는 롤백된 것으로 보고 건너뜀
+            LocalDateTime expiredBefore = now.minusSeconds(commitLagSeconds);
+            int before = gaps.size();
+            gaps.values().removeIf(time -> time.isBefore(expiredBefore));
+            if(gaps.size() < before) log.info("[Skipped] 커밋 대기 시간이 지난 아웃박스 빈 번호 {}개 건너뜀", before - gaps.size());
+        }
+
+        // 마지막으로 읽은 ID 이후의 새 행 조회
+        List<OutboxNoti> rows;
+        do{
+            rows = notiOutboxRepository.findAfter(scanned, pollSize);
+            rows.forEach(row -> scan(row, now));
+            deliver(rows);
+        }while(rows.size() == pollSize);
+
+        advanceCursor();
+    }
+
+    // 읽은 위치를 옮기면서 건너뛴 ID를 빈 번호로 기록
+    private void scan(OutboxNoti row, LocalDateTime now) {
+        for(long id = scanned + 1; id < row.getId(); id++) gaps.putIfAbsent(id, now);
+        scanned = Math.max(scanned, row.getId());
+    }
+
+    // 가장 앞의 빈 번호 직전까지 커서 이동
+    private void advanceCursor() {
+        cursor = gaps.isEmpty() ? scanned : gaps.firstKey() - 1;
+    }
+
+    // 현재 노드에서 발행한 행(커밋 이후 이미 전송)을 제외하고 알림과 읽지 않은 알림 개수 변경을 나누어 전달
+    private void deliver(List<OutboxNoti> rows) {
+        List<Long> userIds = new ArrayList<>();
+        List<Noti> notis = new ArrayList<>();
+        List<Long> countChanged = new ArrayList<>();
+        for(OutboxNoti row : rows){
+            if(nodeId.equals(row.getNodeId())) continue;
+            if(row.getNoti() == null){
+                countChanged.add(row.getUserId());
+                continue;
+            }
+            userIds.add(row.getUserId());
+            notis.add(row.getNoti());
+        }
+
+        if(!userIds.isEmpty()) handlers.forEach(handler -> handler.accept(userIds, notis));
+        if(!countChanged.isEmpty()) unreadCountHandlers.forEach(handler -> handler.accept(countChanged));
+    }
+
+    // 보관 시간이 지난 아웃박스 행을 나누어 삭제
+    @Scheduled(cron = "0 */5 * * * ?")
+    protected void deleteExpired() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(retentionMinutes);
+        int deleted;
+        int total = 0;
+        do{
+            deleted = notiOutboxRepository.deleteCreatedBefore(expiredBefore, pollSize);
+            total += deleted;
+        }while(deleted == pollSize);
+        if(total > 0) log.info("[Deleted] 보관 시간이 지난 아웃박스 알림 {}개 삭제", total);
+    }
+}
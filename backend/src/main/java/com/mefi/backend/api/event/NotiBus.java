@@ -0,0 +1,28 @@
+package com.mefi.backend.api.event;
+
+import com.mefi.backend.db.entity.Noti;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 여러 서버 노드 사이에서 알림을 전달하는 버스
+ * 알림을 생성한 노드는 커밋 이후 자신에게 연결된 유저에게 직접 전송하고,
+ * 다른 노드는 버스를 통해 받은 알림을 자신에게 연결된 유저에게 전송한다
+ * 읽음 처리로 바뀐 읽지 않은 알림 개수도 버스로 알려 SSE 연결을 가진 노드가 캐시된 개수를 다시 조회하도록 한다
+ */
+public interface NotiBus {
+
+    // 다른 노드로 전달할 알림 발행, 알림 저장과 같은 트랜잭션 안에서 호출한다
+    void publish(List<Long> userIds, List<Noti> notis);
+
+    // 다른 노드에서 발행된 알림을 받을 핸들러 등록
+    void subscribe(BiConsumer<List<Long>, List<Noti>> handler);
+
+    // 읽지 않은 알림 개수가 바뀐 유저를 다른 노드로 발행, 읽음 처리와 같은 트랜잭션 안에서 호출한다
+    void publishUnreadCountChanged(List<Long> userIds);
+
+    // 다른 노드에서 읽지 않은 알림 개수가 바뀐 유저를 받을 핸들러 등록
+    void subscribeUnreadCountChanged(Consumer<List<Long>> handler);
+}
@@ -0,0 +1,132 @@
+package com.mefi.backend.api.event;
+
+import com.mefi.backend.api.response.NotiDigestResponseDto;
+import com.mefi.backend.api.response.NotiResponseDto;
+import com.mefi.backend.api.service.NotiService;
+import com.mefi.backend.common.sse.BufferedSseEmitter;
+import com.mefi.backend.db.entity.Noti;
+import com.mefi.backend.db.repository.NotiRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 유저에게 같은 발송자, 같은 주제로 짧은 시간 안에 발생한 알림의 실시간 전송을 하나로 합침
+ * 알림은 업무 트랜잭션에서 모두 저장되고 이벤트 캐시와 읽지 않은 개수에도 바로 반영되므로,
+ * 여기서는 현재 노드에 연결된 유저에게 보내는 SSE 전송만 첫 알림 이후 병합 시간이 지나면 합쳐진 알림 목록과 개수를 담은 digest 이벤트 하나로 보낸다
+ * digest 이벤트의 ID는 묶음의 가장 최신 알림이므로 클라이언트의 Last-Event-ID는 묶음에 포함된 알림 뒤로 옮겨진다
+ * 병합을 기다리는 동안 바로 전송된 다른 알림이 Last-Event-ID를 먼저 옮길 수 있으므로, 전송 전에 연결이 끊기면 대기 중이던 알림은
+ * 재전송되지 않을 수 있고 알림 목록 조회로만 받는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotiCoalescer {
+
+    private static final int DIGEST_MAX_NOTIS = 50; // digest 이벤트에 담을 최대 알림 수, 넘으면 최신 알림만 담고 개수는 모두 센다
+
+    private final NotiService notiService;
+    private final NotiRepository notiRepository;
+    private final ConcurrentHashMap<CoalesceKey, Pending> pendings = new ConcurrentHashMap<>(); // 전송 대기 중인 알림
+    private final Set<Long> countDeferred = ConcurrentHashMap.newKeySet(); // 읽지 않은 개수 전송을 병합 전송에 합칠 유저
+
+    @Value("${noti.coalesce.window-ms:3000}")
+    private long windowMs; // 병합 시간, 0 이하라면 병합하지 않음
+
+    // 병합 주제가 있는 알림의 전송을 대기 목록에 추가, 같은 키의 알림이 있다면 개수를 늘리고 알림 목록에 추가
+    // 병합하지 않는 알림이라면 false 반환
+    public boolean offer(Long userId, Noti noti) {
+        if(windowMs <= 0 || noti.getTopic() == null) return false;
+
+        pendings.merge(new CoalesceKey(userId, noti.getSender(), noti.getTopic()),
+                new Pending(1, List.of(noti), System.currentTimeMillis()),
+                (current, added) -> new Pending(current.count() + 1, append(current.notis(), noti), current.firstAt()));
+        return true;
+    }
+
+    // 읽지 않은 알림 개수 전송을 다음 병합 전송에 합침, 개수는 전송 시점의 값을 다시 읽으므로 그 사이 읽음 처리도 반영된다
+    public void deferUnreadCount(Long userId) {
+        countDeferred.add(userId);
+    }
+
+    // 병합 시간이 지난 알림을 유저의 모든 연결에 전송
+    @Scheduled(fixedDelayString = "${noti.coalesce.flush-interval-ms:1000}")
+    protected void flush() {
+        if(pendings.isEmpty() && countDeferred.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        int pushed = 0;
+        int merged = 0;
+        Set<Long> waiting = new HashSet<>(); // 아직 병합 시간이 지나지 않은 알림이 남은 유저
+
+        for(Map.Entry<CoalesceKey, Pending> entry : pendings.entrySet()){
+            CoalesceKey key = entry.getKey();
+            Pending pending = entry.getValue();
+            if(now - pending.firstAt() < windowMs){
+                waiting.add(key.userId());
+                continue;
+            }
+
+            // 확인하는 사이 새 알림이 합쳐졌다면 다음 주기에 전송
+            if(!pendings.remove(key, pending)){
+                waiting.add(key.userId());
+                continue;
+            }
+
+            // 연결별 전송 대기열에 등록만 하므로 느린 연결이 다른 유저의 전송을 막지 않는다
+            Collection<BufferedSseEmitter> emitters = notiRepository.findSseEmittersById(key.userId()).values();
+            Integer unreadCount = countDeferred.remove(key.userId()) ? notiRepository.findUnreadCount(key.userId()) : null;
+            List<Noti> notis = pending.notis();
+            Noti latest = notis.get(notis.size() - 1);
+
+            if(pending.count() == 1){
+                // 하나뿐이라면 일반 알림과 같은 형식으로 전송
+                emitters.forEach(emitter -> notiService.sendNoti(emitter, latest));
+                if(unreadCount != null) notiService.sendUnreadCount(key.userId(), unreadCount);
+            }else{
+                NotiDigestResponseDto digest = new NotiDigestResponseDto(key.sender(), key.topic(), pending.count(),
+                        notis.stream().map(NotiResponseDto::new).toList(), unreadCount);
+                emitters.forEach(emitter -> notiService.sendDigest(emitter, digest, latest.getEventId()));
+            }
+            pushed++;
+            merged += pending.count() - 1;
+        }
+
+        // 병합 전송이 모두 끝난 유저의 남은 개수 전송
+        for(Long userId : List.copyOf(countDeferred)){
+            if(waiting.contains(userId) || !countDeferred.remove(userId)) continue;
+            Integer unreadCount = notiRepository.findUnreadCount(userId);
+            if(unreadCount != null) notiService.sendUnreadCount(userId, unreadCount);
+        }
+
+        if(merged > 0) log.info("[Coalesced] {}개 알림 전송을 합쳐서 {}개 전송", merged, pushed);
+    }
+
+    // 이벤트 ID 순으로 알림 추가, 버스로 전달된 알림은 순서가 바뀌어 도착할 수 있다, 최대 개수를 넘으면 가장 오래된 알림 제외
+    private List<Noti> append(List<Noti> notis, Noti noti) {
+        List<Noti> appended = new ArrayList<>(notis);
+        appended.add(noti);
+        appended.sort(Comparator.comparing(Noti::getEventId));
+        if(appended.size() > DIGEST_MAX_NOTIS) appended.remove(0);
+        return appended;
+    }
+
+    // 병합 기준 (수신자, 발송자, 주제)
+    private record CoalesceKey(Long userId, String sender, String topic) {
+    }
+
+    // 합쳐진 알림 개수, 이벤트 ID 순 알림 목록, 첫 알림 시각
+    private record Pending(int count, List<Noti> notis, long firstAt) {
+    }
+}
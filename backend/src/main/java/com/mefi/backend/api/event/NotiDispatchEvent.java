@@ -0,0 +1,19 @@
+package com.mefi.backend.api.event;
+
+import com.mefi.backend.db.entity.Noti;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// DB에 저장된 알림을 트랜잭션 커밋 이후 전송하기 위한 이벤트
+@Getter
+@AllArgsConstructor
+public class NotiDispatchEvent {
+
+    // 수신자 식별 ID 목록
+    private List<Long> userIds;
+
+    // 수신자 순서와 같은 순서의 알림 목록
+    private List<Noti> notis;
+}
@@ -0,0 +1,88 @@
+package com.mefi.backend.api.event;
+
+import com.mefi.backend.api.service.NotiService;
+import com.mefi.backend.common.sse.BufferedSseEmitter;
+import com.mefi.backend.db.entity.Noti;
+import com.mefi.backend.db.repository.NotiRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotiDispatchListener {
+
+    private final NotiRepository notiRepository;
+    private final NotiService notiService;
+    private final NotiBus notiBus;
+    private final NotiCoalescer notiCoalescer;
+
+    // 다른 노드에서 발행된 알림과 읽지 않은 알림 개수 변경도 현재 노드에 연결된 유저에게 전송
+    @PostConstruct
+    protected void subscribe() {
+        notiBus.subscribe(this::deliver);
+        notiBus.subscribeUnreadCountChanged(this::refreshUnreadCount);
+    }
+
+    // 트랜잭션 커밋 이후 알림 전송, 트랜잭션 밖에서 발행된 경우 즉시 전송
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void dispatch(NotiDispatchEvent event) {
+        deliver(event.getUserIds(), event.getNotis());
+    }
+
+    // 현재 노드에 연결된 수신자에게 알림 전송
+    private void deliver(List<Long> userIds, List<Noti> notis) {
+        // 수신자들의 SSE Emitter 한 번에 조회
+        Map<Long, Map<String, BufferedSseEmitter>> emitters = notiRepository.findSseEmittersByIds(userIds);
+        Map<Long, Integer> received = new HashMap<>(); // 유저별 수신 알림 개수
+        Set<Long> coalesced = new HashSet<>(); // 병합 대기 중인 알림을 받은 유저
+
+        for(int i = 0; i < userIds.size(); i++){
+            Long userId = userIds.get(i);
+            Noti noti = notis.get(i);
+
+            // 이벤트 캐시 저장, 연결되지 않은 유저도 재연결 시 받을 수 있도록 캐시에 보관
+            notiRepository.saveEventCache(userId, noti);
+            received.merge(userId, 1, Integer::sum);
+
+            // 연결된 Emitter의 전송 대기열에 등록, 실제 전송은 전송 스레드 풀에서 처리
+            Map<String, BufferedSseEmitter> userEmitters = emitters.get(userId);
+            if(userEmitters == null) continue;
+
+            // 병합 주제가 있는 알림은 병합 시간이 지난 뒤 한 번만 전송
+            if(notiCoalescer.offer(userId, noti)){
+                coalesced.add(userId);
+                continue;
+            }
+            userEmitters.values().forEach(emitter -> notiService.sendNoti(emitter, noti));
+        }
+
+        // 읽지 않은 알림 개수 갱신, 연결된 유저에게는 유저별로 한 번만 변경된 개수 전송
+        // 병합 대기 중인 알림을 받은 유저는 병합 전송에 개수를 합쳐 연달아 오는 알림마다 개수를 보내지 않는다
+        received.forEach((userId, size) -> {
+            Integer count = notiRepository.increaseUnreadCount(userId, size);
+            if(count == null || !emitters.containsKey(userId)) return;
+            if(coalesced.contains(userId)) notiCoalescer.deferUnreadCount(userId);
+            else notiService.sendUnreadCount(userId, count);
+        });
+    }
+
+    // 다른 노드에서 읽음 처리된 유저의 캐시된 개수를 버리고, 연결된 유저에게는 DB에서 다시 조회한 개수 전송
+    private void refreshUnreadCount(List<Long> userIds) {
+        Map<Long, Map<String, BufferedSseEmitter>> emitters = notiRepository.findSseEmittersByIds(userIds);
+        for(Long userId : new HashSet<>(userIds)){
+            notiRepository.deleteUnreadCount(userId);
+            if(emitters.containsKey(userId)) notiService.sendUnreadCount(userId, notiService.getUnreadCount(userId));
+        }
+    }
+}
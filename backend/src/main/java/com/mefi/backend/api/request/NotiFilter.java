@@ -0,0 +1,8 @@
+package com.mefi.backend.api.request;
+
+// 알림 목록 조회 시 읽음 여부 필터
+public enum NotiFilter {
+    ALL, // 전체 알림
+    READ, // 읽은 알림
+    UNREAD // 읽지 않은 알림
+}
@@ -0,0 +1,20 @@
+package com.mefi.backend.api.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 여러 알림을 한 번에 읽음 처리하기 위한 DTO, 알림 ID 목록과 이벤트 ID 기준 중 하나 이상 전달
+@Getter
+@Setter
+public class NotiReadReqDto {
+
+    // 읽음 처리할 알림 ID 목록
+    @Size(max = 1000)
+    private List<Long> ids;
+
+    // 이 이벤트 ID 이하의 알림을 모두 읽음 처리
+    private Long untilEventId;
+}
@@ -0,0 +1,33 @@
+package com.mefi.backend.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 팀원의 주간 회의 집계
+@Getter
+@AllArgsConstructor
+public class ConferenceMemberStatResDto {
+
+    // 유저 식별 ID
+    private Long userId;
+
+    // 유저 이름
+    private String name;
+
+    // 주 시작일 (월요일)
+    private LocalDate weekStart;
+
+    // 참여 예정이거나 참여한 회의 수
+    private int scheduledCount;
+
+    // 참여 예정이거나 참여한 회의 시간 (분)
+    private long scheduledMinutes;
+
+    // 종료된 회의 수
+    private int doneCount;
+
+    // 종료된 회의 시간 (분)
+    private long doneMinutes;
+}
@@ -0,0 +1,25 @@
+package com.mefi.backend.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 회의 이력을 커서 단위로 나누어 담은 DTO
+@Getter
+@AllArgsConstructor
+public class ConferencePageResDto {
+
+    // 회의 이력, 최근 회의부터 정렬
+    private List<ConferenceResDto> conferences;
+
+    // 다음 페이지 조회 시 전달할 커서 (마지막 회의의 시작 시간), 다음 페이지가 없다면 null
+    private LocalDateTime nextCursorTime;
+
+    // 다음 페이지 조회 시 전달할 커서 (마지막 회의 ID), 다음 페이지가 없다면 null
+    private Long nextCursorId;
+
+    // 다음 페이지 존재 여부
+    private boolean hasNext;
+}
@@ -2,6 +2,7 @@ package com.mefi.backend.api.response;
 
 import com.mefi.backend.db.entity.Conference;
 import com.mefi.backend.db.entity.ConferenceStatus;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -27,4 +28,14 @@ public class ConferenceResDto {
         this.title = conference.getTitle();
         this.status = conference.getStatus();
     }
+
+    // 엔티티 없이 필요한 컬럼만 조회하여 DTO로 생성
+    @QueryProjection
+    public ConferenceResDto(Long id, LocalDateTime callStart, LocalDateTime callEnd, String title, ConferenceStatus status){
+        this.id = id;
+        this.callStart = callStart;
+        this.callEnd = callEnd;
+        this.title = title;
+        this.status = status;
+    }
 }
@@ -0,0 +1,30 @@
+package com.mefi.backend.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 팀의 주간 회의 집계
+@Getter
+@AllArgsConstructor
+public class ConferenceTeamStatResDto {
+
+    // 주 시작일 (월요일)
+    private LocalDate weekStart;
+
+    // 취소되지 않은 회의 수
+    private int scheduledCount;
+
+    // 취소되지 않은 회의 시간 (분)
+    private long scheduledMinutes;
+
+    // 종료된 회의 수
+    private int doneCount;
+
+    // 종료된 회의 시간 (분)
+    private long doneMinutes;
+
+    // 취소된 회의 수
+    private int canceledCount;
+}
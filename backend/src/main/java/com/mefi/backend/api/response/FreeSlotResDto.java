@@ -0,0 +1,21 @@
+package com.mefi.backend.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 팀원들이 함께 비어있는 시간대를 담은 DTO
+@Getter
+@AllArgsConstructor
+public class FreeSlotResDto {
+
+    // 시작시간
+    private LocalDateTime startedTime;
+
+    // 종료시간
+    private LocalDateTime endTime;
+
+    // 해당 시간대에 일정이 없는 팀원 수
+    private int availableCount;
+}
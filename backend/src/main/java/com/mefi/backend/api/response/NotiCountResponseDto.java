@@ -0,0 +1,13 @@
+package com.mefi.backend.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 읽지 않은 알림 개수를 담은 DTO
+@Getter
+@AllArgsConstructor
+public class NotiCountResponseDto {
+
+    // 읽지 않은 알림 개수
+    private int unreadCount;
+}
@@ -0,0 +1,27 @@
+package com.mefi.backend.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 짧은 시간 안에 같은 발송자, 같은 주제로 발생하여 하나로 합쳐 전송한 알림 묶음 DTO
+@Getter
+@AllArgsConstructor
+public class NotiDigestResponseDto {
+
+    // 발송자
+    private String sender;
+
+    // 병합 주제
+    private String topic;
+
+    // 합쳐진 알림 개수
+    private int count;
+
+    // 합쳐진 알림 목록 (이벤트 ID 순, 최대 개수를 넘으면 최신 알림만 포함)
+    private List<NotiResponseDto> notis;
+
+    // 읽지 않은 알림 개수, 개수를 알 수 없다면 null
+    private Integer unreadCount;
+}
@@ -0,0 +1,21 @@
+package com.mefi.backend.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 알림 목록을 커서 단위로 나누어 담은 DTO
+@Getter
+@AllArgsConstructor
+public class NotiPageResponseDto {
+
+    // 알림 목록, 최신 알림부터 정렬
+    private List<NotiResponseDto> notis;
+
+    // 다음 페이지 조회 시 전달할 커서 (마지막 알림 ID), 다음 페이지가 없다면 null
+    private Long nextCursor;
+
+    // 다음 페이지 존재 여부
+    private boolean hasNext;
+}
@@ -0,0 +1,16 @@
+package com.mefi.backend.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 여러 팀원에게 일정을 일괄 등록한 결과를 팀원별로 담은 DTO
+@Getter
+@AllArgsConstructor
+public class ScheduleConflictResDto {
+
+    // 유저 식별 ID
+    private Long userId;
+
+    // 시간이 겹치는 일정이 있어 등록되지 않았는지 여부
+    private boolean conflicted;
+}
@@ -0,0 +1,33 @@
+package com.mefi.backend.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 팀의 하루 일정을 15분 단위로 나타낸 히트맵 DTO
+@Getter
+@AllArgsConstructor
+public class ScheduleHeatmapResDto {
+
+    // 팀 식별 ID
+    private Long teamId;
+
+    // 조회 일자
+    private LocalDate day;
+
+    // 한 칸의 길이 (분)
+    private int slotMinutes;
+
+    // 팀원 수
+    private int memberCount;
+
+    // 칸별 일정이 있는 팀원 수
+    private int[] busyCounts;
+
+    // 한 명이라도 일정이 있는 칸, 16진수 한 글자가 4칸을 나타내며 앞 칸이 낮은 비트
+    private String anyBusy;
+
+    // 모든 팀원이 일정이 있는 칸, anyBusy와 같은 형식
+    private String allBusy;
+}
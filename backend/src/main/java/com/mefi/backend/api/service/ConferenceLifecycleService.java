@@ -0,0 +1,12 @@
+package com.mefi.backend.api.service;
+
+import java.time.LocalDateTime;
+
+public interface ConferenceLifecycleService {
+
+    // 회의 시작, 종료 시각에 상태 전환 예약, 트랜잭션 중이라면 커밋 후 예약
+    void register(Long conferenceId, LocalDateTime callStart, LocalDateTime callEnd);
+
+    // 지난 회의의 상태를 일괄 전환하고 다음 예약 구간의 회의를 다시 불러옴
+    void reload();
+}
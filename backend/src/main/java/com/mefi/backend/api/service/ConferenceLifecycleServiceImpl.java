@@ -0,0 +1,159 @@
+package com.mefi.backend.api.service;
+
+import com.mefi.backend.common.util.TimingWheel;
+import com.mefi.backend.db.entity.ConferenceStatus;
+import com.mefi.backend.db.repository.ConferenceRepository;
+import com.mefi.backend.db.repository.ConferenceTime;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회의 시작, 종료 시각에 맞춰 회의 상태를 TODO -> IN_PROGRESS -> DONE으로 전환한다
+ * 다음 예약 구간 안에 시작하거나 끝나는 회의만 메모리의 타이밍 휠에 담고, 틱마다 시각이 된 회의를 한 번의 UPDATE로 전환한다
+ * 서버가 재시작되면 멈춰 있는 동안 지난 회의를 일괄 전환한 뒤 다음 예약 구간만 다시 불러온다
+ * UPDATE는 회의 시간과 상태를 다시 확인하므로 여러 서버가 동시에 실행하거나 예약 이후 회의가 수정되어도 안전하다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConferenceLifecycleServiceImpl implements ConferenceLifecycleService {
+
+    private final ConferenceRepository conferenceRepository;
+    private final ConferenceStatService conferenceStatService;
+    private final TransactionTemplate transactionTemplate;
+    private TimingWheel<Transition> wheel;
+
+    @Value("${conference.lifecycle.enabled:true}")
+    private boolean enabled; // 회의 상태 자동 전환 사용 여부
+
+    @Value("${conference.lifecycle.tick-ms:5000}")
+    private long tickMs; // 상태 전환 확인 주기
+
+    @Value("${conference.lifecycle.horizon-minutes:60}")
+    private long horizonMinutes; // 메모리에 예약할 구간, 다시 불러오는 주기보다 길어야 한다
+
+    @Value("${conference.lifecycle.batch-size:500}")
+    private int batchSize; // 지난 회의를 일괄 종료할 때 한 트랜잭션에서 처리할 회의 수
+
+    @PostConstruct
+    protected void init() {
+        int wheelSize = (int) (Duration.ofMinutes(horizonMinutes).toMillis() / tickMs) + 1;
+        wheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    @Override
+    public void register(Long conferenceId, LocalDateTime callStart, LocalDateTime callEnd) {
+        if(!enabled) return;
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            schedule(conferenceId, callStart, callEnd, LocalDateTime.now().plusMinutes(horizonMinutes));
+            return;
+        }
+
+        // 커밋 전에 전환되면 UPDATE가 변경 전 시간을 보게 되므로 커밋 후 예약
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(conferenceId, callStart, callEnd, LocalDateTime.now().plusMinutes(horizonMinutes));
+            }
+        });
+    }
+
+    // 서버 시작 시 바로 실행하고, 이후 주기적으로 다음 예약 구간을 다시 불러옴
+    @Scheduled(fixedDelayString = "${conference.lifecycle.reload-ms:1800000}")
+    @Override
+    public void reload() {
+        if(!enabled) return;
+
+        // 멈춰 있는 동안 지난 회의는 예약 없이 일괄 전환, 종료는 집계에 반영해야 하므로 나누어 처리
+        LocalDateTime now = LocalDateTime.now();
+        int finished = 0;
+        while(true) {
+            List<Long> ids = conferenceRepository.findFinishableIds(now, PageRequest.of(0, batchSize));
+            if(ids.isEmpty()) break;
+            Integer count = transactionTemplate.execute(status -> finish(ids, now));
+            finished += count == null ? 0 : count;
+            if(ids.size() < batchSize) break;
+        }
+        Integer started = transactionTemplate.execute(status -> conferenceRepository.startOverdueConferences(now));
+
+        // 다음 예약 구간 안에 시작하거나 끝나는 회의만 인덱스 범위 조회로 불러와 다시 예약
+        LocalDateTime horizon = now.plusMinutes(horizonMinutes);
+        wheel.clear();
+        List<ConferenceTime> starting = conferenceRepository.findTimesStartingBefore(ConferenceStatus.TODO, horizon);
+        List<ConferenceTime> ending = conferenceRepository.findTimesEndingBefore(ConferenceStatus.IN_PROGRESS, horizon);
+        starting.forEach(c -> schedule(c.getId(), c.getCallStart(), c.getCallEnd(), horizon));
+        ending.forEach(c -> schedule(c.getId(), null, c.getCallEnd(), horizon));
+
+        log.info("[Conference Lifecycle] 지난 회의 종료 {}건, 시작 {}건, 예약 {}건 (~{})",
+                finished, started, wheel.size(), horizon);
+    }
+
+    // 틱마다 시각이 된 회의 상태를 일괄 전환, 종료를 먼저 처리하여 짧은 회의가 진행 중으로 남지 않도록 한다
+    @Scheduled(fixedDelayString = "${conference.lifecycle.tick-ms:5000}")
+    protected void tick() {
+        if(!enabled) return;
+
+        List<Transition> due = wheel.advance(System.currentTimeMillis());
+        if(due.isEmpty()) return;
+
+        List<Long> startIds = new ArrayList<>();
+        List<Long> finishIds = new ArrayList<>();
+        for(Transition transition : due) {
+            if(transition.to() == ConferenceStatus.IN_PROGRESS) startIds.add(transition.conferenceId());
+            else finishIds.add(transition.conferenceId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int[] changed = transactionTemplate.execute(status -> new int[]{
+                    finishIds.isEmpty() ? 0 : finish(finishIds, now),
+                    startIds.isEmpty() ? 0 : conferenceRepository.startConferences(startIds, now)});
+            log.info("[Conference Lifecycle] 회의 종료 {}건, 시작 {}건", changed[0], changed[1]);
+        } catch(RuntimeException e) {
+            // 휠에서 이미 꺼낸 전환이므로 다시 넣지 않으면 다음 예약 구간을 불러올 때까지 전환되지 않는다, 다음 틱에 다시 시도
+            long retryAt = System.currentTimeMillis();
+            due.forEach(transition -> wheel.add(retryAt, transition));
+            log.error("[Conference Lifecycle] 상태 전환 실패, {}건 다음 틱에 다시 시도", due.size(), e);
+        }
+    }
+
+    // 회의를 종료로 일괄 변경하고 집계에 반영, 변경 전 값을 빼고 변경 후 값을 더하므로 실제로 바뀐 회의만 집계가 바뀐다
+    private int finish(List<Long> ids, LocalDateTime now) {
+        conferenceStatService.retract(ids);
+        int finished = conferenceRepository.finishConferences(ids, now);
+        conferenceStatService.apply(ids);
+        return finished;
+    }
+
+    // 예약 구간 안의 시작, 종료 시각만 타이밍 휠에 추가
+    private void schedule(Long conferenceId, LocalDateTime callStart, LocalDateTime callEnd, LocalDateTime horizon) {
+        if(callStart != null && callStart.isBefore(horizon)) {
+            wheel.add(toMillis(callStart), new Transition(conferenceId, ConferenceStatus.IN_PROGRESS));
+        }
+        if(callEnd != null && callEnd.isBefore(horizon)) {
+            wheel.add(toMillis(callEnd), new Transition(conferenceId, ConferenceStatus.DONE));
+        }
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 회의와 전환할 상태
+    private record Transition(Long conferenceId, ConferenceStatus to) {
+    }
+}
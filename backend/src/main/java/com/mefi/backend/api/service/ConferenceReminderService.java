@@ -0,0 +1,18 @@
+package com.mefi.backend.api.service;
+
+import java.time.LocalDateTime;
+
+public interface ConferenceReminderService {
+
+    // 회의 시작 전 알림 예약 생성
+    void createReminders(Long conferenceId, LocalDateTime callStart);
+
+    // 회의 시작 시간 변경 시 알림 예약 시각 일괄 변경
+    void retimeReminders(Long conferenceId, LocalDateTime callStart);
+
+    // 회의 취소 시 알림 예약 일괄 삭제
+    void deleteReminders(Long conferenceId);
+
+    // 전송 시각이 된 알림 예약을 가져와 전송, 전송한 예약 수 반환
+    int dispatchDue();
+}
@@ -0,0 +1,195 @@
+package com.mefi.backend.api.service;
+
+import com.mefi.backend.common.util.TimingWheel;
+import com.mefi.backend.db.entity.Conference;
+import com.mefi.backend.db.entity.ConferenceStatus;
+import com.mefi.backend.db.repository.ConferenceReminderRepository;
+import com.mefi.backend.db.repository.ConferenceRepository;
+import com.mefi.backend.db.repository.ReminderClaim;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회의 시작 전 팀원들에게 알림을 보내는 예약 작업
+ * 예약은 DB 테이블에 저장되어 재시작되어도 유지되고, 각 서버는 다음 예약 구간의 전송 시각만 타이밍 휠에 담아 그 시각에만 DB를 조회한다
+ * 전송 시각이 된 예약은 SKIP LOCKED로 잠가서 가져오므로 여러 서버가 함께 처리해도 한 번만 전송된다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConferenceReminderServiceImpl implements ConferenceReminderService {
+
+    private final ConferenceReminderRepository conferenceReminderRepository;
+    private final ConferenceRepository conferenceRepository;
+    private final NotiService notiService;
+    private final TransactionTemplate transactionTemplate;
+    private TimingWheel<LocalDateTime> wheel;
+
+    @Value("${conference.reminder.enabled:true}")
+    private boolean enabled; // 회의 시작 전 알림 사용 여부
+
+    @Value("${conference.reminder.offsets-minutes:10}")
+    private List<Integer> offsetsMinutes; // 회의 시작 몇 분 전에 알림을 보낼지, 여러 개 지정 가능
+
+    @Value("${conference.reminder.tick-ms:5000}")
+    private long tickMs; // 전송 시각 확인 주기
+
+    @Value("${conference.reminder.horizon-minutes:60}")
+    private long horizonMinutes; // 메모리에 예약할 구간, 다시 불러오는 주기보다 길어야 한다
+
+    @Value("${conference.reminder.batch-size:100}")
+    private int batchSize; // 한 트랜잭션에서 가져올 예약 수
+
+    @Value("${conference.reminder.retention-hours:24}")
+    private long retentionHours; // 전송된 예약 보관 시간
+
+    @PostConstruct
+    protected void init() {
+        int wheelSize = (int) (Duration.ofMinutes(horizonMinutes).toMillis() / tickMs) + 1;
+        wheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    @Override
+    public void createReminders(Long conferenceId, LocalDateTime callStart) {
+        if(!enabled) return;
+
+        // 이미 지난 시각의 알림은 예약하지 않음
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> offsets = offsetsMinutes.stream()
+                .filter(offset -> callStart.minusMinutes(offset).isAfter(now))
+                .distinct()
+                .toList();
+        conferenceReminderRepository.saveAllInBatch(conferenceId, callStart, offsets);
+        register(callStart, offsets);
+    }
+
+    @Override
+    public void retimeReminders(Long conferenceId, LocalDateTime callStart) {
+        if(!enabled) return;
+
+        // 예약이 없던 회의라면 새로 예약
+        int retimed = conferenceReminderRepository.retime(conferenceId, callStart);
+        if(retimed == 0) {
+            if(!conferenceReminderRepository.existsByConferenceId(conferenceId)) createReminders(conferenceId, callStart);
+            return;
+        }
+        register(callStart, offsetsMinutes);
+        log.info("[Conference Reminder] 회의 {} 알림 예약 {}건 시각 변경", conferenceId, retimed);
+    }
+
+    @Override
+    public void deleteReminders(Long conferenceId) {
+        conferenceReminderRepository.deleteByConferenceId(conferenceId);
+    }
+
+    // 서버 시작 시 바로 실행하고, 이후 주기적으로 다음 예약 구간의 전송 시각을 다시 불러옴
+    // 다른 서버에서 생성한 예약도 이때 함께 불러온다
+    @Scheduled(fixedDelayString = "${conference.reminder.reload-ms:300000}")
+    protected void reload() {
+        if(!enabled) return;
+
+        LocalDateTime horizon = LocalDateTime.now().plusMinutes(horizonMinutes);
+        List<LocalDateTime> dueTimes = conferenceReminderRepository.findDueTimesBefore(horizon);
+        wheel.clear();
+        dueTimes.forEach(dueTime -> wheel.add(toMillis(dueTime), dueTime));
+        log.info("[Conference Reminder] 전송 시각 {}건 예약 (~{})", dueTimes.size(), horizon);
+    }
+
+    // 틱마다 전송 시각이 된 예약이 있을 때만 DB에서 가져와 전송
+    @Scheduled(fixedDelayString = "${conference.reminder.tick-ms:5000}")
+    protected void tick() {
+        if(!enabled) return;
+        if(wheel.advance(System.currentTimeMillis()).isEmpty()) return;
+        dispatchDue();
+    }
+
+    @Override
+    public int dispatchDue() {
+        int sent = 0;
+        while(true) {
+            Integer count = transactionTemplate.execute(status -> dispatchBatch());
+            sent += count == null ? 0 : count;
+            if(count == null || count < batchSize) break;
+        }
+        if(sent > 0) log.info("[Conference Reminder] 알림 예약 {}건 전송", sent);
+        return sent;
+    }
+
+    // 매시 정각마다 보관 시간이 지난 전송된 예약 삭제
+    @Scheduled(cron = "0 0 * * * ?")
+    protected void deleteSent() {
+        int deleted = conferenceReminderRepository.deleteSentBefore(LocalDateTime.now().minusHours(retentionHours), 10000);
+        if(deleted > 0) log.info("[Deleted] 전송된 알림 예약 {}건 삭제", deleted);
+    }
+
+    // 잠금을 건 예약의 알림을 같은 트랜잭션에서 저장하고 전송 완료로 변경, 커밋되면 잠금이 풀리고 알림이 전송된다
+    private int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReminderClaim> claims = conferenceReminderRepository.claimDue(now, batchSize);
+        if(claims.isEmpty()) return 0;
+
+        Map<Long, Conference> conferences = conferenceRepository.findAllWithTeamByIdIn(
+                        claims.stream().map(ReminderClaim::getConferenceId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Conference::getId, Function.identity()));
+
+        for(ReminderClaim claim : claims) {
+            // 예정된 회의가 아니거나 이미 시작된 회의는 전송하지 않고 완료 처리
+            Conference conference = conferences.get(claim.getConferenceId());
+            if(conference == null || conference.getStatus() != ConferenceStatus.TODO) continue;
+
+            long minutes = (Duration.between(now, conference.getCallStart()).getSeconds() + 59) / 60;
+            if(minutes <= 0) continue;
+
+            String sender = conference.getTeam().getName();
+            notiService.sendNotiForTeam(conference.getTeam().getId(), sender, makeMessage(sender, conference.getTitle(), minutes));
+        }
+
+        conferenceReminderRepository.markSent(claims.stream().map(ReminderClaim::getId).toList(), now);
+        return claims.size();
+    }
+
+    // 예약 구간 안의 전송 시각을 타이밍 휠에 추가, 트랜잭션 중이라면 커밋 후 추가
+    private void register(LocalDateTime callStart, List<Integer> offsets) {
+        Runnable task = () -> {
+            LocalDateTime horizon = LocalDateTime.now().plusMinutes(horizonMinutes);
+            offsets.stream()
+                    .map(callStart::minusMinutes)
+                    .filter(dueTime -> dueTime.isBefore(horizon))
+                    .forEach(dueTime -> wheel.add(toMillis(dueTime), dueTime));
+        };
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private String makeMessage(String sender, String conferenceName, long minutes) {
+        return String.format("팀[%s]의 회의 %s가 %d분 후 시작됩니다.", sender, conferenceName, minutes);
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
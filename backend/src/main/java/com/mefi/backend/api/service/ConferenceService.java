@@ -2,17 +2,20 @@ package com.mefi.backend.api.service;
 
 import com.mefi.backend.api.request.ConferenceCreateReqDto;
 import com.mefi.backend.api.request.ConferenceModifyAllReqDto;
-import com.mefi.backend.api.response.ConferenceResDto;
-import java.util.List;
+import com.mefi.backend.api.response.ConferencePageResDto;
 import com.mefi.backend.api.response.ConferenceDetailResDto;
+import com.mefi.backend.db.entity.ConferenceStatus;
+
+import java.time.LocalDateTime;
 
 public interface ConferenceService {
 
     // 회의 생성
     Long createMeeting(Long leaderId, ConferenceCreateReqDto conferenceCreateReqDto);
 
-    // 팀 회의 이력 조회
-    List<ConferenceResDto> getConferenceHistory(Long userId, Long teamId, String start, String end);
+    // 팀 회의 이력을 최신순으로 커서 단위로 조회
+    ConferencePageResDto getConferenceHistory(Long userId, Long teamId, String start, String end, ConferenceStatus status,
+                                              LocalDateTime cursorTime, Long cursorId, Integer size);
 
     // 회의 상세 조회
     ConferenceDetailResDto detailMeeting(Long userId, Long conferenceId);
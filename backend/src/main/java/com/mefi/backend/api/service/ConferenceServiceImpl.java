@@ -5,7 +5,9 @@ import com.mefi.backend.api.request.ConferenceModifyAllReqDto;
 import com.mefi.backend.api.request.ScheduleReqDto;
 import com.mefi.backend.api.response.ConferenceResDto;
 import com.mefi.backend.api.response.ConferenceDetailResDto;
+import com.mefi.backend.api.response.ConferencePageResDto;
 import com.mefi.backend.api.response.MemberResDto;
+import com.mefi.backend.api.response.ScheduleConflictResDto;
 import com.mefi.backend.common.exception.ErrorCode;
 import com.mefi.backend.common.exception.Exceptions;
 import com.mefi.backend.db.entity.*;
@@ -13,11 +15,14 @@ import com.mefi.backend.db.repository.*;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -29,11 +34,21 @@ public class ConferenceServiceImpl implements ConferenceService {
     private final TeamService teamService;
     private final ScheduleService scheduleService;
     private final TeamUserRepository teamUserRepository;
-    private final FileRepository fileRepository;
-    private final ScheduleRepository scheduleRepository;
-    private final UserRepository userRepository;
+    private final ConferenceDetailCache conferenceDetailCache;
+    private final ConferenceLifecycleService conferenceLifecycleService;
+    private final ConferenceReminderService conferenceReminderService;
+    private final ConferenceStatService conferenceStatService;
     private final NotiService notiService;
 
+    // 회의 알림 주제, 리더가 연달아 회의를 생성하거나 수정하면 하나의 알림으로 합쳐진다
+    private static final String CONFERENCE_TOPIC = "conference";
+
+    @Value("${conference.history.page-size:20}")
+    private int historyPageSize; // 회의 이력 기본 페이지 크기
+
+    @Value("${conference.history.max-page-size:100}")
+    private int historyMaxPageSize; // 회의 이력 최대 페이지 크기
+
     // 회의 생성
     @Override
     @Transactional
@@ -75,30 +90,44 @@ public class ConferenceServiceImpl implements ConferenceService {
                 team.getName()+"의 회의",
                 conferenceCreateReqDto.getDescription());
 
+        // DB 저장, 팀원 일정이 회의를 참조하므로 먼저 저장한다
+        conferenceRepository.save(conference);
+
+        // 회의 시작, 종료 시각에 상태 전환 예약
+        conferenceLifecycleService.register(conference.getId(), conference.getCallStart(), conference.getCallEnd());
+
+        // 회의 시작 전 알림 예약
+        conferenceReminderService.createReminders(conference.getId(), conference.getCallStart());
+
         // 팀원 목록 조회
         List<MemberResDto> members = teamService.getMemberList(leaderId, team.getId());
 
         log.info("\n팀원 목록 완료 후 일정 추가 시작-------------");
 
-        // 팀원들 개인 일정에 추가
-        for(MemberResDto member: members) {
-            log.info("\n팀원 : {}", member.getId());
-            scheduleService.createSchedule(member.getId(),scheduleReqDto);
-        }
+        // 팀원들 개인 일정에 일괄 추가, 시간이 겹치는 일정이 있는 팀원은 제외
+        List<Long> memberIds = members.stream().map(MemberResDto::getId).toList();
+        List<ScheduleConflictResDto> results = scheduleService.createSchedules(memberIds, scheduleReqDto, conference);
+        Set<Long> conflicted = conflictedUserIds(results);
+        log.info("\n일정 중복으로 개인 일정 미등록 팀원 : {}", conflicted);
 
-        // DB 저장
-        conferenceRepository.save(conference);
+        // 팀별, 팀원별 주간 회의 집계에 반영
+        conferenceStatService.apply(List.of(conference.getId()));
 
-        // 팀원 모두에게 알림 전송
+        // 일정이 등록된 팀원에게 예약 알림 전송
         String sender = team.getName();
         String message =  makeMessage(sender, conference.getTitle(),1);
-        notiService.sendNotiForTeam(team.getId(), sender, message);
+        notiService.sendCoalescedNotiForTeam(team.getId(), sender, CONFERENCE_TOPIC, message, conflicted);
+
+        // 일정이 겹쳐 개인 일정에 등록되지 않은 팀원에게는 따로 알림
+        if(!conflicted.isEmpty())
+            notiService.sendNotiForUsers(new ArrayList<>(conflicted), sender, makeConflictMessage(sender, conference.getTitle()));
 
         return conference.getId();
     }
 
     @Override
-    public List<ConferenceResDto> getConferenceHistory(Long userId, Long teamId, String start, String end) {
+    public ConferencePageResDto getConferenceHistory(Long userId, Long teamId, String start, String end, ConferenceStatus status,
+                                                     LocalDateTime cursorTime, Long cursorId, Integer size) {
         // 팀 멤버인지 확인, 아니라면 예외 발생
         teamService.getMemberList(userId, teamId);
 
@@ -108,51 +137,42 @@ public class ConferenceServiceImpl implements ConferenceService {
         LocalDateTime endTime = LocalDateTime.parse(end + "235959.999", formatter);
         log.info("Start : {}, End : {}", startTime, endTime);
 
-        // 기간 내 존재하는 회의 이력 조회, DTO를 직접 조회한다
-        List<ConferenceResDto> histories = conferenceRepository.findAllByCallTime(teamId, startTime, endTime);
-        return histories;
+        // 페이지 크기는 최대 크기를 넘지 않도록 제한
+        int pageSize = size == null || size <= 0 ? historyPageSize : Math.min(size, historyMaxPageSize);
+
+        // 기간 내 존재하는 회의 이력 조회, 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<ConferenceResDto> histories = conferenceRepository.findHistoryBefore(teamId, startTime, endTime, status, cursorTime, cursorId, pageSize + 1);
+        boolean hasNext = histories.size() > pageSize;
+        if(hasNext) histories = histories.subList(0, pageSize);
+
+        ConferenceResDto last = hasNext ? histories.get(histories.size() - 1) : null;
+        return new ConferencePageResDto(histories,
+                last == null ? null : last.getCallStart(),
+                last == null ? null : last.getId(),
+                hasNext);
     }
 
     // 회의 상세 조회
     @Override
     public ConferenceDetailResDto detailMeeting(Long userId, Long conferenceId) {
 
-        // 회의 진행하는 팀 확인
-        if(!conferenceRepository.findById(conferenceId).isPresent())
-            throw new Exceptions(ErrorCode.CONFERENCE_NOT_EXIST);
-
-        log.info("\n회의 진행하는 팀 확인 : OK");
+        // 회의 정보, 팀원 여부, 파일 목록을 한 번에 조회, 최근 조회한 회의라면 캐시에서 조회
+        ConferenceDetail conferenceDetail = conferenceDetailCache.find(userId, conferenceId);
 
-        Conference conference = conferenceRepository.findById(conferenceId).get();
+        // 회의 존재 여부 확인
+        if(conferenceDetail == null)
+            throw new Exceptions(ErrorCode.CONFERENCE_NOT_EXIST);
 
         log.info("\n회의 조회 : OK");
 
         // 해당 팀의 팀원인지 확인
-        if(teamUserRepository.isMember(userId, conference.getTeam().getId())==0)
+        if(!conferenceDetail.isMember())
             throw new Exceptions(ErrorCode.NOT_TEAM_MEMBER);
 
         log.info("\n회의 팀의 팀원인지 확인 : OK");
+        log.info("\n파일 개수 : {}", conferenceDetail.getDetail().getMeetingFiles().size());
 
-        // 해당 회의관련 파일 메타 데이터 가져오기
-        List<MeetingFile> meetingFiles = fileRepository.findByConferenceId(conferenceId);
-
-        log.info("\n파일 메타 데이터 가져오기 : OK");
-        log.info("\n파일 개수 : {}", meetingFiles.size());
-
-        // 파일 리스트를 담을 리스트
-        List<String> conferenceFileList = new ArrayList<>();
-        
-        // 파일 리스트 출력
-        for(MeetingFile meetingFile: meetingFiles)
-            conferenceFileList.add(meetingFile.getFileName());
-
-        // 회의 상세 조회 Dto에 담기
-        ConferenceDetailResDto conferenceDetailResDto = new ConferenceDetailResDto(
-                conference.getTitle(),conference.getDescription(),
-                conference.getCallStart(),conference.getCallEnd(),
-                conference.getThumbnailUrl(), conferenceFileList);
-
-        return conferenceDetailResDto;
+        return conferenceDetail.getDetail();
     }
 
     // 회의 취소
@@ -160,11 +180,9 @@ public class ConferenceServiceImpl implements ConferenceService {
     @Transactional
     public void cancelMeeting(Long leaderId, Long conferenceId) {
 
-        // 회의 존재 여부 확인
-        if(!conferenceRepository.findById(conferenceId).isPresent())
-            throw new Exceptions(ErrorCode.CONFERENCE_NOT_EXIST);
-
-        Conference conference = conferenceRepository.findById(conferenceId).get();
+        // 회의 존재 여부 확인, 자동 종료 작업과 동시에 상태를 바꾸지 않도록 잠금 조회
+        Conference conference = conferenceRepository.findByIdForUpdate(conferenceId)
+                .orElseThrow(() -> new Exceptions(ErrorCode.CONFERENCE_NOT_EXIST));
 
         log.info("\n회의 조회 : OK");
 
@@ -179,37 +197,29 @@ public class ConferenceServiceImpl implements ConferenceService {
         
         log.info("\n팀 존재 여부 & 팀의 리더인지 확인 : OK");
 
-        // 회의 상태 변경
+        // 변경 전 값을 집계에서 뺀 뒤 회의 상태 변경
+        conferenceStatService.retract(List.of(conference.getId()));
         conference.cancelConferenceStatus();
 
         log.info("\n회의 상태 변경 완료 : {}", conference.getStatus());
 
-        // 팀원들 개인 일정에서 회의 삭제
-        List<MemberResDto> members = teamService.getMemberList(leaderId, team.getId());
-
         // 팀원 모두에게 알림 전송
         String sender = team.getName();
         String message =  makeMessage(sender, conference.getTitle(),-1);
-        notiService.sendNotiForTeam(team.getId(), sender, message);
-
-        // 팀원 순회
-        for(MemberResDto member: members) {
+        notiService.sendCoalescedNotiForTeam(team.getId(), sender, CONFERENCE_TOPIC, message);
 
-            // 유저 조회
-            if(!userRepository.findById(member.getId()).isPresent())
-                throw new Exceptions(ErrorCode.USER_NOT_EXIST);
+        // 회의 상세 캐시와 시작 전 알림 예약 삭제
+        conferenceDetailCache.invalidate(conference.getId());
+        conferenceReminderService.deleteReminders(conference.getId());
 
-            User user = userRepository.findById(member.getId()).get();
+        // 팀원들 개인 일정에서 회의 일괄 삭제
+        int deleted = scheduleService.deleteConferenceSchedules(conference.getId());
 
-            // 해당 시간 개인 일정 조회
-            PrivateSchedule privateSchedule =
-                    scheduleRepository.getSchedule(
-                            user,conference.getCallStart(),conference.getCallEnd()).orElseThrow(() -> new Exceptions(ErrorCode.SCHEDULE_NOT_EXIST));
-            scheduleService.deleteSchedule(user.getId(),privateSchedule.getId());
+        log.info("\n 개인 일정 {}건 삭제 완료 : OK", deleted);
 
-            log.info("\n 팀원 : {}, {}", user.getId(),user.getName());
-            log.info("\n 개인 일정 삭제 완료 : OK");
-        }
+        // 변경된 상태를 반영한 뒤 집계에 다시 더함
+        conferenceRepository.flush();
+        conferenceStatService.apply(List.of(conference.getId()));
     }
 
     // 회의 종료
@@ -217,11 +227,9 @@ public class ConferenceServiceImpl implements ConferenceService {
     @Transactional
     public void doneMeeting(Long leaderId, Long conferenceId) {
 
-        // 회의 존재 여부 확인
-        if(!conferenceRepository.findById(conferenceId).isPresent())
-            throw new Exceptions(ErrorCode.CONFERENCE_NOT_EXIST);
-
-        Conference conference = conferenceRepository.findById(conferenceId).get();
+        // 회의 존재 여부 확인, 자동 종료 작업과 동시에 상태를 바꾸지 않도록 잠금 조회
+        Conference conference = conferenceRepository.findByIdForUpdate(conferenceId)
+                .orElseThrow(() -> new Exceptions(ErrorCode.CONFERENCE_NOT_EXIST));
 
         log.info("\n회의 조회 : OK");
 
@@ -236,8 +244,11 @@ public class ConferenceServiceImpl implements ConferenceService {
 
         log.info("\n팀 존재 여부 & 팀의 리더인지 확인 : OK");
 
-        // 회의 상태 변경
+        // 변경 전 값을 집계에서 뺀 뒤 회의 상태 변경
+        conferenceStatService.retract(List.of(conference.getId()));
         conference.doneConferenceStatus();
+        conferenceRepository.flush();
+        conferenceStatService.apply(List.of(conference.getId()));
 
         log.info("\n회의 상태 변경 완료 : {}", conference.getStatus());
     }
@@ -258,16 +269,32 @@ public class ConferenceServiceImpl implements ConferenceService {
         return String.format("팀[%s]의 회의 %s가 취소되었습니다.", sender, conferenceName);
     }
 
+    // 일정이 겹쳐 회의 일정이 개인 일정에 반영되지 않은 팀원에게 보낼 메시지
+    private String makeConflictMessage(String sender, String conferenceName){
+        return String.format("팀[%s]의 회의 %s가 기존 일정과 겹쳐 개인 일정에 추가되지 않았습니다.", sender, conferenceName);
+    }
+
+    // 회의 시간이 바뀌어 기존 일정과 겹친 팀원의 회의 일정이 삭제되었을 때 보낼 메시지
+    private String makeRemovedMessage(String sender, String conferenceName){
+        return String.format("팀[%s]의 회의 %s의 시간이 변경되어 기존 일정과 겹치므로 개인 일정에서 삭제되었습니다.", sender, conferenceName);
+    }
+
+    // 개인 일정 등록 결과 중 일정이 겹친 팀원 ID
+    private Set<Long> conflictedUserIds(List<ScheduleConflictResDto> results){
+        return results.stream()
+                .filter(ScheduleConflictResDto::isConflicted)
+                .map(ScheduleConflictResDto::getUserId)
+                .collect(Collectors.toSet());
+    }
+
     // 회의 정보 전체 수정
     @Override
     @Transactional
     public void modifyAllMeeting(Long leaderId, Long conferenceId, ConferenceModifyAllReqDto conferenceModifyAllReqDto) {
 
-        // 회의 존재 여부 확인
-        if(!conferenceRepository.findById(conferenceId).isPresent())
-            throw new Exceptions(ErrorCode.CONFERENCE_NOT_EXIST);
-
-        Conference conference = conferenceRepository.findById(conferenceId).get();
+        // 회의 존재 여부 확인, 자동 종료 작업과 동시에 상태를 바꾸지 않도록 잠금 조회
+        Conference conference = conferenceRepository.findByIdForUpdate(conferenceId)
+                .orElseThrow(() -> new Exceptions(ErrorCode.CONFERENCE_NOT_EXIST));
 
         log.info("\n회의 조회 : OK");
 
@@ -298,49 +325,38 @@ public class ConferenceServiceImpl implements ConferenceService {
 
         log.info("\n개인 일정 생성 : OK");
 
-        // 팀원들 개인 일정에서 회의 수정
-        List<MemberResDto> members = teamService.getMemberList(leaderId, team.getId());
-
-        // 팀원 모두에게 알림 전송
-        String sender = team.getName();
-        String message =  makeMessage(sender, conference.getTitle(),-1);
-        notiService.sendNotiForTeam(team.getId(), sender, message);
-
-        log.info("\n알림 전송 : OK");
-        
-        // 팀원 순회
-        for(MemberResDto member: members) {
-
-            // 유저 조회
-            if(!userRepository.findById(member.getId()).isPresent())
-                throw new Exceptions(ErrorCode.USER_NOT_EXIST);
-
-            User user = userRepository.findById(member.getId()).get();
+        // 변경 전 값을 집계에서 뺌
+        conferenceStatService.retract(List.of(conference.getId()));
 
-            // 해당 시간 개인 일정 조회
-            PrivateSchedule privateSchedule =
-                    scheduleRepository.getSchedule(
-                            user,conference.getCallStart(),conference.getCallEnd()).orElseThrow(() -> new Exceptions(ErrorCode.SCHEDULE_NOT_EXIST));
+        // 팀원들 개인 일정에서 회의 일괄 수정, 시간이 겹치는 일정이 있는 팀원은 회의 일정 삭제
+        List<ScheduleConflictResDto> results = scheduleService.modifyConferenceSchedules(conference.getId(), scheduleReqDto);
+        Set<Long> conflicted = conflictedUserIds(results);
+        log.info("\n일정 중복으로 회의 일정 삭제 팀원 : {}", conflicted);
 
-            log.info("\n팀원 개인 일정 조회 : OK");
+        log.info("\n 개인 일정 수정 완료 : OK");
 
-            log.info("\n팀원 일정 중복 여부 검사");
-
-            // 해당 유저의 일정 중에서 중복되는 일정이 존재하지 않은 경우
-            if(scheduleService.checkDuplicateSchedule(user.getId(), privateSchedule.getId(), conferenceModifyAllReqDto.getCallStart(), conferenceModifyAllReqDto.getCallEnd()))
+        // 회의 일정이 수정된 팀원에게 알림 전송
+        String sender = team.getName();
+        String message =  makeMessage(sender, conference.getTitle(),-1);
+        notiService.sendCoalescedNotiForTeam(team.getId(), sender, CONFERENCE_TOPIC, message, conflicted);
 
-                // 일정 수정
-                privateSchedule.changeDetail(scheduleReqDto.getSummary(), scheduleReqDto.getDescription(), scheduleReqDto.getStartedTime(), scheduleReqDto.getEndTime());
+        // 변경된 시간이 기존 일정과 겹쳐 회의 일정이 삭제된 팀원에게는 따로 알림
+        if(!conflicted.isEmpty())
+            notiService.sendNotiForUsers(new ArrayList<>(conflicted), sender, makeRemovedMessage(sender, conference.getTitle()));
 
-            log.info("\n 팀원 : {}, {}", user.getId(),user.getName());
-            log.info("\n 개인 일정 수정 완료 : OK");
-        }
+        log.info("\n알림 전송 : OK");
 
-        // 회의 정보 전체 수정
+        // 회의 정보 전체 수정, 시작 시간이 바뀐 경우에만 시작 전 알림 예약 시각 변경
+        boolean startChanged = !conferenceModifyAllReqDto.getCallStart().equals(conference.getCallStart());
         conference.updateAll(conferenceModifyAllReqDto.getCallStart(),
                 conferenceModifyAllReqDto.getCallEnd(),
                 conferenceModifyAllReqDto.getTitle(),
                 conferenceModifyAllReqDto.getDescription());
+        conferenceRepository.flush();
+        conferenceStatService.apply(List.of(conference.getId()));
+        conferenceDetailCache.invalidate(conference.getId());
+        conferenceLifecycleService.register(conference.getId(), conference.getCallStart(), conference.getCallEnd());
+        if(startChanged) conferenceReminderService.retimeReminders(conference.getId(), conference.getCallStart());
 
         log.info("\n회의 정보 수정 완료 : OK");
     }
@@ -0,0 +1,27 @@
+package com.mefi.backend.api.service;
+
+import com.mefi.backend.api.response.ConferenceMemberStatResDto;
+import com.mefi.backend.api.response.ConferenceTeamStatResDto;
+
+import java.util.List;
+
+public interface ConferenceStatService {
+
+    // 회의 상태나 시간이 바뀌기 전에 현재 값을 집계에서 뺌
+    void retract(List<Long> conferenceIds);
+
+    // 회의 생성 또는 상태나 시간이 바뀐 뒤 현재 값을 집계에 더함
+    void apply(List<Long> conferenceIds);
+
+    // 회의로 등록된 개인 일정 삭제 전 해당 팀원의 집계에서 뺌
+    void retractSchedule(Long scheduleId);
+
+    // 팀의 주간 회의 집계 조회
+    List<ConferenceTeamStatResDto> getTeamStats(Long userId, Long teamId, String start, String end);
+
+    // 팀원들의 한 주 회의 집계 조회
+    List<ConferenceMemberStatResDto> getMemberStats(Long userId, Long teamId, String day);
+
+    // 모든 팀의 집계를 원본 데이터로 다시 계산, 다시 계산한 팀 수 반환
+    int rebuild();
+}
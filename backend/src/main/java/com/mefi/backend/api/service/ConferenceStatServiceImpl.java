@@ -0,0 +1,143 @@
+package com.mefi.backend.api.service;
+
+import com.mefi.backend.api.response.ConferenceMemberStatResDto;
+import com.mefi.backend.api.response.ConferenceTeamStatResDto;
+import com.mefi.backend.common.exception.ErrorCode;
+import com.mefi.backend.common.exception.Exceptions;
+import com.mefi.backend.db.repository.ConferenceStatRepository;
+import com.mefi.backend.db.repository.TeamUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 팀별, 팀원별 주간 회의 집계
+ * 회의가 바뀔 때마다 해당 회의 값만 집계 테이블에 반영하므로 통계 조회는 원본 테이블을 읽지 않는다
+ * 다시 계산 작업은 팀 단위로 나누어 별도 트랜잭션으로 처리하고, DB 이름 잠금으로 여러 서버 중 한 곳에서만 실행한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConferenceStatServiceImpl implements ConferenceStatService {
+
+    private final ConferenceStatRepository conferenceStatRepository;
+    private final TeamUserRepository teamUserRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService maintenanceExecutor;
+
+    private static final int STAT_MAX_WEEKS = 53; // 최대 조회 기간 (주)
+    private static final String REBUILD_LOCK = "conference_stat_rebuild"; // 다시 계산 실행 중복 방지용 DB 이름 잠금
+
+    @Value("${conference.stat.rebuild.enabled:true}")
+    private boolean rebuildEnabled; // 주기적 다시 계산 사용 여부
+
+    @Value("${conference.stat.rebuild.chunk-size:100}")
+    private int chunkSize; // 한 번에 조회할 팀 수
+
+    @Value("${conference.stat.rebuild.throttle-ms:50}")
+    private long throttleMs; // 팀 사이 대기 시간
+
+    @Override
+    public void retract(List<Long> conferenceIds) {
+        conferenceStatRepository.addConferences(conferenceIds, -1);
+    }
+
+    @Override
+    public void apply(List<Long> conferenceIds) {
+        conferenceStatRepository.addConferences(conferenceIds, 1);
+    }
+
+    @Override
+    public void retractSchedule(Long scheduleId) {
+        conferenceStatRepository.addSchedule(scheduleId, -1);
+    }
+
+    @Override
+    public List<ConferenceTeamStatResDto> getTeamStats(Long userId, Long teamId, String start, String end) {
+        // 팀원이 아닌 경우 예외 처리
+        checkMember(userId, teamId);
+
+        // 조회 기간을 주 시작일(월요일)로 맞춤, 형식이 맞지 않거나 범위가 잘못된 경우 예외 처리
+        LocalDate fromWeek = toWeekStart(start);
+        LocalDate toWeek = toWeekStart(end);
+        if(toWeek.isBefore(fromWeek) || toWeek.isAfter(fromWeek.plusWeeks(STAT_MAX_WEEKS)))
+            throw new Exceptions(ErrorCode.NOT_VALID_REQUEST);
+
+        return conferenceStatRepository.findTeamStats(teamId, fromWeek, toWeek);
+    }
+
+    @Override
+    public List<ConferenceMemberStatResDto> getMemberStats(Long userId, Long teamId, String day) {
+        // 팀원이 아닌 경우 예외 처리
+        checkMember(userId, teamId);
+
+        return conferenceStatRepository.findMemberStats(teamId, toWeekStart(day));
+    }
+
+    // 매주 일요일 새벽 집계를 원본 데이터로 다시 계산하여 어긋난 값을 바로잡음, 팀 사이에 쉬므로 유지보수 스레드에서 실행
+    @Scheduled(cron = "${conference.stat.rebuild.cron:0 0 4 * * SUN}")
+    protected void scheduleRebuild() {
+        if(rebuildEnabled) maintenanceExecutor.execute(this::rebuild);
+    }
+
+    @Override
+    public int rebuild() {
+        // 모든 서버에서 같은 시각에 실행되므로 DB 이름 잠금을 얻은 서버 한 곳에서만 다시 계산
+        AtomicInteger rebuilt = new AtomicInteger();
+        if(!conferenceStatRepository.runWithLock(REBUILD_LOCK, () -> rebuilt.set(rebuildAll()))){
+            log.info("회의 집계 다시 계산이 이미 실행 중입니다");
+            return 0;
+        }
+        return rebuilt.get();
+    }
+
+    // 모든 팀의 집계를 팀 식별 ID 순으로 다시 계산
+    private int rebuildAll() {
+        long cursor = 0; // 마지막으로 처리한 팀 식별 ID
+        int rebuilt = 0;
+        try{
+            while(true){
+                List<Long> teamIds = conferenceStatRepository.findTeamIdsAfter(cursor, chunkSize);
+                if(teamIds.isEmpty()) break;
+
+                // 팀마다 별도 트랜잭션으로 삭제 후 다시 계산하여 잠금 시간을 짧게 유지
+                for(Long teamId : teamIds){
+                    transactionTemplate.executeWithoutResult(status -> conferenceStatRepository.rebuildTeam(teamId));
+                    rebuilt++;
+                    Thread.sleep(throttleMs);
+                }
+                cursor = teamIds.get(teamIds.size() - 1);
+                if(teamIds.size() < chunkSize) break;
+            }
+        }catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("[Rebuilt] 회의 집계 {}개 팀 다시 계산", rebuilt);
+        return rebuilt;
+    }
+
+    private void checkMember(Long userId, Long teamId) {
+        teamUserRepository.findByUserIdAndTeamId(userId, teamId).orElseThrow(() -> new Exceptions(ErrorCode.TEAM_ACCESS_DENIED));
+    }
+
+    private LocalDate toWeekStart(String day) {
+        try{
+            return LocalDate.parse(day, DateTimeFormatter.BASIC_ISO_DATE).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }catch(DateTimeParseException e){
+            throw new Exceptions(ErrorCode.NOT_VALID_REQUEST);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.mefi.backend.common.exception.Exceptions;
 import com.mefi.backend.db.entity.Conference;
 import com.mefi.backend.db.entity.MeetingFile;
 import com.mefi.backend.db.entity.MeetingFileType;
+import com.mefi.backend.db.repository.ConferenceDetailCache;
 import com.mefi.backend.db.repository.ConferenceRepository;
 import com.mefi.backend.db.repository.FileRepository;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ public class FileServiceImpl implements FileService {
     private final AmazonS3Client amazonS3Client;
     private final FileRepository fileRepository;
     private final ConferenceRepository conferenceRepository;
+    private final ConferenceDetailCache conferenceDetailCache;
     private final String DIRECTORY = "CONFERENCE";
 
     @Value("${cloud.aws.s3.bucket}")
@@ -63,6 +65,7 @@ public class FileServiceImpl implements FileService {
             Conference conference = conferenceRepository.findById(conferenceId).get();
             meetingFile.setConference(conference);
             fileRepository.save(meetingFile);
+            conferenceDetailCache.invalidate(conferenceId);
         }catch(Exception e){
             e.printStackTrace();
         }
@@ -85,6 +88,7 @@ public class FileServiceImpl implements FileService {
 
             // 로컬 DB에서 파일 메타 데이터 삭제
             fileRepository.delete(meetingFile);
+            conferenceDetailCache.invalidate(conferenceId);
         }catch(Exception e){
             e.printStackTrace();
         }
@@ -0,0 +1,7 @@
+package com.mefi.backend.api.service;
+
+public interface NotiArchiveService {
+
+    // 보관 기간이 지난 읽은 알림을 아카이브 테이블로 이동, 옮긴 행 수 반환
+    long archiveReadNotis();
+}
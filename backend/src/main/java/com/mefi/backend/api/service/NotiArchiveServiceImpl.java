@@ -0,0 +1,100 @@
+package com.mefi.backend.api.service;
+
+import com.mefi.backend.db.repository.ArchiveCursor;
+import com.mefi.backend.db.repository.NotiArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 알림 테이블이 계속 커지지 않도록 보관 기간이 지난 읽은 알림을 아카이브 테이블로 옮긴다
+ * 묶음마다 별도 트랜잭션으로 처리하고 묶음 사이에 쉬어 운영 중인 쿼리에 주는 부하를 줄인다
+ * 옮긴 알림은 알림 테이블에서 삭제되므로 중단되더라도 다음 실행에서 남은 알림부터 이어서 처리된다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotiArchiveServiceImpl implements NotiArchiveService {
+
+    private final NotiArchiveRepository notiArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService maintenanceExecutor;
+    private final AtomicBoolean running = new AtomicBoolean(); // 실행 중복 방지
+
+    @Value("${noti.archive.enabled:true}")
+    private boolean enabled; // 주기적 아카이브 사용 여부
+
+    @Value("${noti.archive.retention-days:30}")
+    private long retentionDays; // 알림 테이블에 남겨둘 기간
+
+    @Value("${noti.archive.batch-size:1000}")
+    private int batchSize; // 한 트랜잭션에서 옮길 행 수
+
+    @Value("${noti.archive.throttle-ms:200}")
+    private long throttleMs; // 묶음 사이 대기 시간
+
+    @Value("${noti.archive.max-run-minutes:30}")
+    private long maxRunMinutes; // 한 번 실행할 때 최대 처리 시간, 남은 알림은 다음 실행에서 처리
+
+    // 매일 새벽 보관 기간이 지난 읽은 알림 이동, 묶음 사이에 쉬므로 예약 작업 스레드가 아닌 유지보수 스레드에서 실행
+    @Scheduled(cron = "${noti.archive.cron:0 30 3 * * ?}")
+    protected void scheduleArchive() {
+        if(enabled) maintenanceExecutor.execute(this::archiveReadNotis);
+    }
+
+    @Override
+    public long archiveReadNotis() {
+        if(!running.compareAndSet(false, true)){
+            log.info("알림 아카이브가 이미 실행 중입니다");
+            return 0;
+        }
+
+        try{
+            LocalDateTime createdBefore = LocalDateTime.now().minusDays(retentionDays);
+            long startedAt = System.nanoTime();
+            long deadline = startedAt + Duration.ofMinutes(maxRunMinutes).toNanos();
+            Counter counter = meterRegistry.counter("noti.archive.rows");
+            ArchiveCursor cursor = null; // 마지막으로 확인한 알림의 생성 시간과 식별 ID
+            long moved = 0;
+
+            while(System.nanoTime() < deadline){
+                // 옮길 알림 조회 후 한 트랜잭션에서 복사와 삭제 처리
+                List<ArchiveCursor> rows = notiArchiveRepository.findArchivable(createdBefore, cursor, batchSize);
+                if(rows.isEmpty()) break;
+
+                List<Long> ids = rows.stream().map(ArchiveCursor::getId).toList();
+                Integer count = transactionTemplate.execute(status -> notiArchiveRepository.moveToArchive(ids, LocalDateTime.now()));
+                moved += count == null ? 0 : count;
+                counter.increment(count == null ? 0 : count);
+                cursor = rows.get(rows.size() - 1);
+
+                if(ids.size() < batchSize) break;
+                Thread.sleep(throttleMs);
+            }
+
+            // 초당 처리량 기록
+            double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+            log.info("[Archived] {} 이전의 읽은 알림 {}개 이동, {}초 소요, 초당 {}개", createdBefore, moved,
+                    String.format("%.1f", seconds), String.format("%.1f", moved / seconds));
+            return moved;
+        }catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            log.info("알림 아카이브가 중단되었습니다");
+            return 0;
+        }finally{
+            running.set(false);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.mefi.backend.api.service;
 
+import com.mefi.backend.api.request.NotiFilter;
+import com.mefi.backend.api.request.NotiReadReqDto;
+import com.mefi.backend.api.response.NotiDigestResponseDto;
+import com.mefi.backend.api.response.NotiPageResponseDto;
 import com.mefi.backend.api.response.NotiResponseDto;
+import com.mefi.backend.common.sse.BufferedSseEmitter;
 import com.mefi.backend.db.entity.Noti;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NotiService {
@@ -18,15 +24,39 @@ public interface NotiService {
     // 특정 알림의 읽음 처리
     NotiResponseDto readNoti(Long alarmId);
 
-    // 특정 Emitter로 알림 전송
-    void sendNoti(SseEmitter emitter, String eventId, String emitterId, Noti noti);
+    // 특정 사용자의 알림 목록을 커서 단위로 조회
+    NotiPageResponseDto getNotiHistory(Long userId, Long cursor, NotiFilter filter, Integer size);
+
+    // 특정 사용자의 읽지 않은 알림 개수 조회
+    int getUnreadCount(Long userId);
+
+    // 특정 사용자의 모든 연결에 읽지 않은 알림 개수 전송
+    void sendUnreadCount(Long userId, int count);
+
+    // 특정 Emitter의 전송 대기열에 알림 등록
+    void sendNoti(BufferedSseEmitter emitter, Noti noti);
+
+    // 합쳐진 알림 묶음 전송, 이벤트 ID는 묶음의 가장 최신 알림 이벤트 ID
+    void sendDigest(BufferedSseEmitter emitter, NotiDigestResponseDto digest, Long eventId);
 
     // 특정 사용자에게 알림 전송
     @Transactional
     void sendNotiForUser(Long userId, String sender, String message);
 
+    // 여러 사용자에게 같은 알림을 일괄 전송
+    void sendNotiForUsers(List<Long> userIds, String sender, String message);
+
     // 팀에 소속된 사용자 모두에게 알림 전송
     void sendNotiForTeam(Long teamId, String sender, String message);
 
+    // 팀원 모두에게 알림 전송, 짧은 시간 안에 같은 주제로 반복되는 알림은 모두 저장하되 실시간 전송만 하나로 합침
+    void sendCoalescedNotiForTeam(Long teamId, String sender, String topic, String message);
+
+    // 일부 팀원을 제외한 팀원 모두에게 알림 전송, 같은 주제의 실시간 전송은 하나로 합침
+    void sendCoalescedNotiForTeam(Long teamId, String sender, String topic, String message, Collection<Long> excludedUserIds);
+
     int readNotiAll(Long userId);
+
+    // 여러 알림을 한 번에 읽음 처리
+    int readNotis(Long userId, NotiReadReqDto notiReadReqDto);
 }
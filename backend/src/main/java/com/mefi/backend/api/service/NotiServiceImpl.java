@@ -1,26 +1,50 @@
 package com.mefi.backend.api.service;
 
+import com.mefi.backend.api.event.NotiBus;
+import com.mefi.backend.api.event.NotiDispatchEvent;
+import com.mefi.backend.api.request.NotiFilter;
+import com.mefi.backend.api.request.NotiReadReqDto;
 import com.mefi.backend.api.response.MemberResDto;
+import com.mefi.backend.api.response.NotiCountResponseDto;
+import com.mefi.backend.api.response.NotiDigestResponseDto;
+import com.mefi.backend.api.response.NotiPageResponseDto;
 import com.mefi.backend.api.response.NotiResponseDto;
 import com.mefi.backend.common.exception.ErrorCode;
 import com.mefi.backend.common.exception.Exceptions;
+import com.mefi.backend.common.sse.BufferedSseEmitter;
+import com.mefi.backend.common.sse.OverflowPolicy;
+import com.mefi.backend.common.sse.SseSendMetrics;
+import com.mefi.backend.common.util.EventIdGenerator;
 import com.mefi.backend.db.entity.*;
+import com.mefi.backend.db.repository.CachedNoti;
 import com.mefi.backend.db.repository.NotiRepository;
 import com.mefi.backend.db.repository.TeamUserRepository;
 import com.mefi.backend.db.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,51 +57,126 @@ public class NotiServiceImpl implements NotiService{
     private final NotiRepository notiRepository;
     private final TeamUserRepository teamUserRepository;
     private final UserRepository userRepository;
-    private static final Long DEFAULT_TIMEOUT = Long.MAX_VALUE; // SSE 최대 연결 시간
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotiBus notiBus;
+    private final EventIdGenerator eventIdGenerator;
+    private final ThreadPoolTaskExecutor notiDispatchExecutor;
+    private final SseSendMetrics sseSendMetrics;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${noti.emitter.timeout-ms:3600000}")
+    private Long emitterTimeout; // SSE 최대 연결 시간, 만료되면 클라이언트가 Last-Event-ID로 재연결
+
+    @Value("${noti.replay.page-size:32}")
+    private int replayPageSize; // DB 재전송 시 한 번에 조회할 알림 수, 연결별 전송 대기열보다 작아야 한다
+
+    @Value("${noti.replay.max-count:200}")
+    private int replayMaxCount; // DB 재전송 최대 알림 수, 오래된 Last-Event-ID로 전체 이력을 다시 보내지 않도록 한다
+
+    @Value("${noti.history.page-size:20}")
+    private int historyPageSize; // 알림 목록 기본 페이지 크기
+
+    @Value("${noti.history.max-page-size:100}")
+    private int historyMaxPageSize; // 알림 목록 최대 페이지 크기
+
+    @Value("${noti.heartbeat.batch-size:500}")
+    private int heartbeatBatchSize; // 하트비트 한 묶음당 Emitter 개수
+
+    @Value("${noti.emitter.queue-capacity:64}")
+    private int emitterQueueCapacity; // 연결별 전송 대기열 최대 크기
+
+    @Value("${noti.emitter.overflow-policy:DROP_OLDEST}")
+    private OverflowPolicy overflowPolicy; // 전송 대기열 초과 시 처리 방식
+
+    @Value("${noti.emitter.send-timeout-ms:10000}")
+    private long sendTimeoutMs; // 전송 하나의 제한 시간, 넘기면 느린 클라이언트로 보고 연결 종료
 
     // SSE 연결 생성
     @Override
     public SseEmitter createSseConnection(Long userId, String lastEventId) {
         // SSE Emitter ID 생성
-        String emitterId = makeTimeIncludeEventId(String.valueOf(userId));
+        String emitterId = makeEmitterId(userId);
 
-        // SSE Emitter 객체 생성
-        SseEmitter sseEmitter = notiRepository.saveEmitter(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        // SSE Emitter 객체 생성, 전송 실패나 느린 클라이언트로 종료된 경우 해당 Emitter 삭제
+        BufferedSseEmitter sseEmitter = notiRepository.saveEmitter(userId, emitterId,
+                new BufferedSseEmitter(emitterTimeout, emitterQueueCapacity, overflowPolicy,
+                        notiDispatchExecutor, sseSendMetrics, ()->deleteEmitter(userId, emitterId)));
 
-        // SSE 콜백 함수 지정
-        sseEmitter.onCompletion(()->deleteEmittersForUser(userId));  // 비동기 처리 완료
-        sseEmitter.onTimeout(()->deleteEmittersForUser(userId));  // 타임 아웃
-        sseEmitter.onError(e->deleteEmittersForUser(userId)); // 오류
+        // SSE 콜백 함수 지정, 다른 탭과 디바이스의 연결은 유지하도록 해당 Emitter만 삭제
+        sseEmitter.onCompletion(()->deleteEmitter(userId, emitterId));  // 비동기 처리 완료
+        sseEmitter.onTimeout(()->deleteEmitter(userId, emitterId));  // 타임 아웃
+        sseEmitter.onError(e->deleteEmitter(userId, emitterId)); // 오류
 
-        // 503 에러 방지를 위해 더미 이벤트 전송
-        String eventId = makeTimeIncludeEventId(String.valueOf(userId));
-        sendNoti(sseEmitter, eventId, emitterId, Noti.builder().message("[Created] Event Stream : userID="+userId).status(false).build());
+        // 503 에러 방지를 위해 더미 이벤트 전송, 클라이언트의 Last-Event-ID가 바뀌지 않도록 이벤트 ID는 지정하지 않음
+        sendNoti(sseEmitter, Noti.builder().message("[Created] Event Stream : userID="+userId).status(false).build());
 
         // 네트워크 오류 등으로 인한 미수신 알림이 있다면 클라이언트에 전송
-        if(!lastEventId.isEmpty()){
-            Map<String, Noti> events = notiRepository.findEventCachesByUserId(String.valueOf(userId));
-            events.entrySet().stream()
-                    .filter(entry->lastEventId.compareTo(entry.getKey())<0) // 미수신 알림 판별
-                    .forEach(entry->sendNoti(sseEmitter, entry.getKey(), emitterId, entry.getValue())); // 알림 전송
-        }
+        Long lastId = parseEventId(lastEventId);
+        if(lastId != null) replay(userId, sseEmitter, lastId);
 
         // SSE Emitter 객체 반환
         return sseEmitter;
     }
 
-    // 알림 전송
+    // 알림 전송, 느린 클라이언트가 다른 전송을 막지 않도록 연결별 대기열에 등록만 하고 즉시 반환
     @Override
-    public void sendNoti(SseEmitter emitter, String eventId, String emitterId, Noti noti) {
-        try{
-            emitter.send(SseEmitter.event()
-                    .id(eventId)
-                    .name("sse")
-                    .data(new NotiResponseDto(noti))
-                    .build());
-        }catch(IOException e){
-            e.printStackTrace();
-            log.info("알림 전송 중 오류가 발생하였습니다");
-            notiRepository.deleteEmitterById(emitterId);
+    public void sendNoti(BufferedSseEmitter emitter, Noti noti) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event()
+                .name("sse")
+                .data(new NotiResponseDto(noti));
+        if(noti.getEventId() != null) event.id(String.valueOf(noti.getEventId()));
+        emitter.enqueue(event);
+    }
+
+    // 합쳐진 알림 묶음 전송, 묶음에 포함된 알림을 모두 받았으므로 가장 최신 알림의 이벤트 ID로 Last-Event-ID를 옮긴다
+    @Override
+    public void sendDigest(BufferedSseEmitter emitter, NotiDigestResponseDto digest, Long eventId) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event()
+                .name("digest")
+                .data(digest);
+        if(eventId != null) event.id(String.valueOf(eventId));
+        emitter.enqueue(event);
+    }
+
+    // 읽지 않은 알림 개수 전송, 클라이언트의 Last-Event-ID가 바뀌지 않도록 이벤트 ID는 지정하지 않음
+    @Override
+    public void sendUnreadCount(Long userId, int count) {
+        notiRepository.findSseEmittersById(userId).values().forEach(emitter ->
+                emitter.enqueue(SseEmitter.event()
+                        .name("count")
+                        .data(new NotiCountResponseDto(count))));
+    }
+
+    // 미수신 알림 재전송
+    private void replay(Long userId, BufferedSseEmitter emitter, long lastId) {
+        // 캐시가 마지막 수신 이후의 알림을 모두 보관하고 있다면 캐시에서 전송
+        if(notiRepository.isEventCacheCovering(userId, lastId)){
+            List<CachedNoti> events = notiRepository.findEventCachesAfter(userId, lastId); // 미수신 알림 판별
+            events.forEach(event->sendNoti(emitter, event.getNoti())); // 알림 전송
+            return;
+        }
+
+        // 재시작이나 다른 노드 연결 등으로 캐시에 없는 경우 DB에서 조회
+        // 이전 형식이거나 아주 오래된 Last-Event-ID라면 최근 알림 최대 개수만큼만 재전송
+        List<Long> floor = notiRepository.findRecentEventIds(userId, PageRequest.of(replayMaxCount, 1));
+        long start = floor.isEmpty() ? lastId : Math.max(lastId, floor.get(0));
+        replayFromDb(userId, emitter, start);
+    }
+
+    // DB에서 이벤트 ID 순으로 한 페이지씩 조회하여 전송, 이전 페이지 전송이 끝나면 다음 페이지 조회
+    private void replayFromDb(Long userId, BufferedSseEmitter emitter, long lastId) {
+        if(emitter.isClosed()) return;
+
+        List<Noti> page = notiRepository.findNotisAfter(userId, lastId, PageRequest.of(0, replayPageSize));
+        if(page.isEmpty()) return;
+
+        page.forEach(noti -> sendNoti(emitter, noti));
+        log.info("[Replayed] User : {}, {}개 알림 DB에서 재전송", userId, page.size());
+
+        // 페이지가 가득 찼다면 남은 알림이 있을 수 있으므로 이 페이지 전송이 끝난 뒤 다음 페이지 조회
+        if(page.size() == replayPageSize){
+            long nextId = page.get(page.size() - 1).getEventId();
+            emitter.onDrained(() -> replayFromDb(userId, emitter, nextId));
         }
     }
 
@@ -85,9 +184,6 @@ public class NotiServiceImpl implements NotiService{
     @Override
     @Transactional
     public void sendNotiForUser(Long userId, String sender, String message) {
-        // Event ID 생성
-        String eventId = makeTimeIncludeEventId(String.valueOf(userId));
-
         // 해당 유저 조회
         User user = userRepository.findById(userId).orElseThrow(()-> new Exceptions(ErrorCode.USER_NOT_EXIST));
 
@@ -98,37 +194,81 @@ public class NotiServiceImpl implements NotiService{
                 .createdTime(LocalDateTime.now())
                 .status(false)
                 .sender(sender)
+                .eventId(eventIdGenerator.nextId())
                 .build();
         notiRepository.save(noti);
 
-        // 로그인한 특정 사용자에 대한 모든 SSE Emitter 조회 (여러 탭, 디바이스 고려)
-        Map<String, SseEmitter> emitters = notiRepository.findSseEmittersById(String.valueOf(userId));
+        // 다른 노드에 연결된 유저를 위해 같은 트랜잭션으로 버스에 발행
+        notiBus.publish(List.of(userId), List.of(noti));
 
-        // 모든 SSE Emitter에 대해 알림 전송
-        emitters.forEach((key, emitter) -> {
-            // 이벤트 캐시 저장
-            notiRepository.saveEventCache(key, noti);
-            // 알림 전송
-            sendNoti(emitter, eventId, key, noti);
-        });
+        // 트랜잭션 커밋 이후 로그인한 사용자의 모든 SSE Emitter에 전송 (여러 탭, 디바이스 고려)
+        eventPublisher.publishEvent(new NotiDispatchEvent(List.of(userId), List.of(noti)));
+
+    }
+
+    // 여러 유저에게 같은 알림을 일괄 전송
+    @Override
+    @Transactional
+    public void sendNotiForUsers(List<Long> userIds, String sender, String message) {
+        saveAndDispatch(userIds, sender, message, null);
+    }
 
+    // 여러 유저의 알림을 일괄 저장하고 커밋 이후 전송, 주제가 있다면 같은 주제의 실시간 전송을 합친다
+    private void saveAndDispatch(List<Long> userIds, String sender, String message, String topic) {
+        if(userIds.isEmpty()) return;
 
+        // 수신자마다 알림 생성, 유저는 조회 없이 참조만 사용
+        LocalDateTime now = LocalDateTime.now();
+        List<Noti> notis = userIds.stream()
+                .map(userId -> Noti.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .message(message)
+                        .createdTime(now)
+                        .status(false)
+                        .sender(sender)
+                        .eventId(eventIdGenerator.nextId())
+                        .build())
+                .collect(Collectors.toList());
+        if(topic != null) notis.forEach(noti -> noti.assignTopic(topic));
+
+        // DB 일괄 저장
+        notiRepository.saveAllInBatch(notis);
+
+        // 다른 노드에 연결된 유저를 위해 같은 트랜잭션으로 버스에 발행
+        notiBus.publish(userIds, notis);
+
+        // 트랜잭션 커밋 이후 연결된 Emitter에 알림 전송
+        eventPublisher.publishEvent(new NotiDispatchEvent(List.copyOf(userIds), notis));
     }
 
     // 팀에 소속된 모든 유저에게 알림 전송
     @Override
     @Transactional
     public void sendNotiForTeam(Long teamId, String sender, String message) {
-        // 팀원 목록 조회
-        List<UserTeam> users = teamUserRepository.findAllByTeamId(teamId);
-
-        // 각 팀원에 대해 알림 전송
-        for(UserTeam user : users){
-            // 리더는 제외
-            if(user.getRole().equals(UserRole.LEADER)) continue;
-            log.info("user : {}", user.getUser().getId());
-            sendNotiForUser(user.getUser().getId(), sender, message);
-        }
+        // 리더를 제외한 팀원 목록 조회
+        List<Long> userIds = teamUserRepository.findUserIdsByTeamIdAndRole(teamId, UserRole.MEMBER);
+        log.info("Team : {}, Members : {}", teamId, userIds.size());
+
+        // 팀원 모두에게 일괄 전송
+        sendNotiForUsers(userIds, sender, message);
+    }
+
+    // 팀에 소속된 모든 유저에게 알림 전송, 같은 주제의 실시간 전송은 하나로 합쳐짐
+    @Override
+    @Transactional
+    public void sendCoalescedNotiForTeam(Long teamId, String sender, String topic, String message) {
+        // 알림은 호출한 트랜잭션 안에서 모두 저장하고, 연결된 유저에게 보내는 실시간 전송만 병합 단계에서 합친다
+        sendCoalescedNotiForTeam(teamId, sender, topic, message, List.of());
+    }
+
+    // 제외할 팀원을 뺀 팀원 모두에게 알림 전송, 같은 주제의 실시간 전송은 하나로 합쳐짐
+    @Override
+    @Transactional
+    public void sendCoalescedNotiForTeam(Long teamId, String sender, String topic, String message, Collection<Long> excludedUserIds) {
+        List<Long> userIds = teamUserRepository.findUserIdsByTeamIdAndRole(teamId, UserRole.MEMBER).stream()
+                .filter(userId -> !excludedUserIds.contains(userId))
+                .toList();
+        saveAndDispatch(userIds, sender, message, topic);
     }
 
     // 해당 유저가 읽지 않은 모든 알림 조회
@@ -138,7 +278,7 @@ public class NotiServiceImpl implements NotiService{
         User user = userRepository.findById(userId).orElseThrow(() -> new Exceptions(ErrorCode.USER_NOT_EXIST));
 
         // 특정 사용자의 알림 전체 조회
-        List<Noti> notis = notiRepository.findNotiByUserAndStatusIsFalse(user);
+        List<Noti> notis = notiRepository.findNotiByUserAndStatusIsFalseOrderByEventId(user);
         log.info("Alarm Size : {}", notis.size());
 
         // 엔티티를 DTO로 변환하여 리턴
@@ -147,12 +287,51 @@ public class NotiServiceImpl implements NotiService{
                 .collect(Collectors.toList());
     }
 
+    // 해당 유저의 알림 목록을 커서 단위로 조회
+    @Override
+    public NotiPageResponseDto getNotiHistory(Long userId, Long cursor, NotiFilter filter, Integer size) {
+        // 페이지 크기는 최대 크기를 넘지 않도록 제한
+        int pageSize = size == null || size <= 0 ? historyPageSize : Math.min(size, historyMaxPageSize);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<Noti> notis = notiRepository.findNotisBefore(userId, cursor, filter, pageSize + 1);
+        boolean hasNext = notis.size() > pageSize;
+        if(hasNext) notis = notis.subList(0, pageSize);
+
+        Long nextCursor = hasNext ? notis.get(notis.size() - 1).getId() : null;
+        List<NotiResponseDto> result = notis.stream()
+                .map(NotiResponseDto::new)
+                .collect(Collectors.toList());
+        return new NotiPageResponseDto(result, nextCursor, hasNext);
+    }
+
+    // 해당 유저가 읽지 않은 알림 개수 조회
+    @Override
+    public int getUnreadCount(Long userId) {
+        // 캐시된 개수가 있다면 그대로 반환
+        Integer count = notiRepository.findUnreadCount(userId);
+        if(count != null) return count;
+
+        // 캐시에 없다면 알림을 불러오지 않고 개수만 조회하여 다시 적재, 조회하는 사이 개수가 바뀌었다면 적재하지 않음
+        long loadToken = notiRepository.startUnreadCountLoad(userId);
+        int unread = (int) notiRepository.countUnreadByUserId(userId);
+        notiRepository.saveLoadedUnreadCount(userId, unread, loadToken);
+        return unread;
+    }
+
     // 특정 알림 읽음 처리
     @Override
     @Transactional
     public NotiResponseDto readNoti(Long alarmId) {
         Noti noti = notiRepository.findNotiById(alarmId).orElseThrow(()->new Exceptions(ErrorCode.USER_NOT_EXIST));
-        noti.read();
+
+        // 읽지 않은 알림인 경우에만 커밋 이후 개수 감소 후 변경된 개수 전송
+        if(!noti.getStatus()){
+            noti.read();
+            Long userId = noti.getUser().getId();
+            notiBus.publishUnreadCountChanged(List.of(userId));
+            afterCommit(() -> decreaseUnreadCount(userId, 1));
+        }
         return new NotiResponseDto(noti);
     }
 
@@ -160,24 +339,132 @@ public class NotiServiceImpl implements NotiService{
     @Transactional
     public int readNotiAll(Long userId){
         User user = userRepository.findById(userId).orElseThrow(() -> new Exceptions(ErrorCode.USER_NOT_EXIST));
-        return notiRepository.readNotiAllByUser(user);
+        int count = notiRepository.readNotiAllByUser(user);
+
+        // 커밋 이후 읽음 처리한 개수만큼 감소 후 전송, 그 사이 새로 도착한 알림 개수는 유지된다
+        if(count > 0) notiBus.publishUnreadCountChanged(List.of(userId));
+        afterCommit(() -> decreaseUnreadCount(userId, count));
+        return count;
+    }
+
+    // 여러 알림 읽음 처리, ID 목록과 이벤트 ID 기준 각각 한 번의 UPDATE로 처리
+    @Override
+    @Transactional
+    public int readNotis(Long userId, NotiReadReqDto notiReadReqDto) {
+        List<Long> ids = notiReadReqDto.getIds();
+        Long untilEventId = notiReadReqDto.getUntilEventId();
+        if((ids == null || ids.isEmpty()) && untilEventId == null) throw new Exceptions(ErrorCode.NOT_VALID_REQUEST);
+
+        // 다른 유저의 알림은 변경되지 않도록 유저 ID 조건 포함
+        int count = 0;
+        if(untilEventId != null) count += notiRepository.readNotisUntil(userId, untilEventId);
+        if(ids != null && !ids.isEmpty()) count += notiRepository.readNotisByIds(userId, ids);
+
+        // 커밋 이후 변경된 읽지 않은 알림 개수 한 번만 전송
+        int read = count;
+        if(read > 0) notiBus.publishUnreadCountChanged(List.of(userId));
+        afterCommit(() -> decreaseUnreadCount(userId, read));
+        return count;
     }
 
-    // 이벤트 ID 생성 메소드
-    private String makeTimeIncludeEventId(String userId){
-        return userId + "_" + System.currentTimeMillis();
+    // 읽음 처리한 개수만큼 캐시된 개수 감소 후 전송, 캐시에 없다면 다시 조회
+    // 다른 노드의 캐시는 버스로 전달된 변경 알림을 받아 다시 조회한다
+    private void decreaseUnreadCount(Long userId, int read){
+        Integer unread = notiRepository.increaseUnreadCount(userId, -read);
+        sendUnreadCount(userId, unread != null ? unread : getUnreadCount(userId));
     }
 
-    // 특정 유저의 Emitter 삭제 메소드
-    private void deleteEmittersForUser(Long userId){
-        log.info("[Removed] All Emitters of User : {}", userId);
-        notiRepository.deleteEmittersByUserId(String.valueOf(userId));
+    // 트랜잭션 커밋 이후 실행, 롤백되면 캐시와 클라이언트의 개수를 바꾸지 않는다
+    private void afterCommit(Runnable task){
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // Emitter ID 생성 메소드, 같은 밀리초에 연결된 여러 탭도 구분되도록 이벤트 ID 생성기 사용
+    private String makeEmitterId(Long userId){
+        return userId + "_" + eventIdGenerator.nextId();
+    }
+
+    // 클라이언트가 마지막으로 받은 Event ID 변환, 이전 형식(유저ID_순번)도 허용하며 형식이 맞지 않으면 null 반환
+    private Long parseEventId(String lastEventId){
+        if(lastEventId == null || lastEventId.isEmpty()) return null;
+        try{
+            return Long.parseLong(lastEventId.substring(lastEventId.lastIndexOf('_') + 1));
+        }catch(NumberFormatException e){
+            log.info("잘못된 Last Event ID : {}", lastEventId);
+            return null;
+        }
+    }
+
+    // 특정 Emitter 삭제 메소드
+    private void deleteEmitter(Long userId, String emitterId){
+        log.info("[Removed] Emitter {} of User : {}", emitterId, userId);
+        notiRepository.deleteEmitterById(userId, emitterId);
+    }
+
+    // 서버가 보유한 SSE 연결 수 지표 등록
+    @PostConstruct
+    protected void registerConnectionGauge(){
+        Gauge.builder("noti.emitter.connections", notiRepository, NotiRepository::countEmitters)
+                .description("현재 서버가 보유한 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    // 주기적으로 모든 연결에 하트비트를 보내고 종료된 연결을 일괄 삭제하는 메소드
+    @Scheduled(fixedDelayString = "${noti.heartbeat.interval-ms:30000}")
+    protected void sendHeartbeats(){
+        Map<Long, List<String>> closed = new HashMap<>();
+        int batch = 0;
+        int removed = 0;
+
+        for(Map.Entry<Long, Map<String, BufferedSseEmitter>> entry : notiRepository.findAllEmitters().entrySet()){
+            Long userId = entry.getKey();
+            for(Map.Entry<String, BufferedSseEmitter> emitter : entry.getValue().entrySet()){
+                // 주석 이벤트는 클라이언트에 전달되지 않고 연결 확인 용도로만 사용, 종료된 연결은 등록이 거절됨
+                if(!emitter.getValue().enqueueHeartbeat(SseEmitter.event().comment("heartbeat"))){
+                    closed.computeIfAbsent(userId, key -> new ArrayList<>()).add(emitter.getKey());
+                }
+
+                // 묶음 단위로 종료된 연결 일괄 삭제
+                if(++batch == heartbeatBatchSize){
+                    removed += notiRepository.deleteEmitters(closed);
+                    closed.clear();
+                    batch = 0;
+                }
+            }
+        }
+        removed += notiRepository.deleteEmitters(closed);
+
+        if(removed > 0) log.info("[Removed] 종료된 SSE 연결 {}개 삭제, 남은 연결 : {}", removed, notiRepository.countEmitters());
+    }
+
+    // 주기적으로 전송이 멈춘 연결을 찾아 종료하는 메소드, 멈춘 연결에 전송 작업이 계속 등록되어 전송 스레드를 모두 차지하지 않도록 한다
+    @Scheduled(fixedDelayString = "${noti.emitter.stall-check-ms:5000}")
+    protected void closeStalledEmitters(){
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        int stalled = 0;
+        for(Map<String, BufferedSseEmitter> userEmitters : notiRepository.findAllEmitters().values()){
+            for(BufferedSseEmitter emitter : userEmitters.values()){
+                if(emitter.closeIfStalled(timeoutNanos)) stalled++;
+            }
+        }
+
+        if(stalled > 0) log.info("[Removed] 전송이 멈춘 SSE 연결 {}개 종료", stalled);
     }
 
-    // 매일 새벽 5시마다 3개월 지난 이벤트 캐시를 제거하는 메소드
-    @Scheduled(cron="0 0 5 * * ?")
+    // 매시 정각마다 보관 시간이 지난 이벤트 캐시를 제거하는 메소드
+    @Scheduled(cron="0 0 * * * ?")
     protected void deleteEventCaches(){
-        notiRepository.deleteEventCacheByUserId();
-        log.info("[Deleted]" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) + "기준으로 3개월 지난 EventCache 삭제 완료");
+        notiRepository.deleteExpiredEventCaches();
+        notiRepository.deleteExpiredUnreadCounts();
+        log.info("[Deleted]" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) + "기준으로 보관 시간이 지난 EventCache 삭제 완료");
     }
 }
@@ -1,10 +1,14 @@
 package com.mefi.backend.api.service;
 
 import com.mefi.backend.api.request.ScheduleReqDto;
+import com.mefi.backend.api.response.FreeSlotResDto;
 import com.mefi.backend.api.response.ScheduleCalResDto;
+import com.mefi.backend.api.response.ScheduleConflictResDto;
 import com.mefi.backend.api.response.ScheduleDetailResDto;
+import com.mefi.backend.api.response.ScheduleHeatmapResDto;
 import com.mefi.backend.api.response.ScheduleResDto;
 import com.mefi.backend.api.response.ScheduleTimeDto;
+import com.mefi.backend.db.entity.Conference;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,6 +18,16 @@ public interface ScheduleService {
     // 개인 일정 등록
     void createSchedule(Long userId, ScheduleReqDto scheduleReqDto);
 
+    // 여러 유저에게 같은 일정 일괄 등록, 시간이 겹치는 일정이 있는 유저는 제외하고 유저별 결과 반환
+    // 회의로 등록하는 일정이라면 회의를 함께 연결한다
+    List<ScheduleConflictResDto> createSchedules(List<Long> userIds, ScheduleReqDto scheduleReqDto, Conference conference);
+
+    // 회의로 등록된 팀원들의 일정 일괄 삭제
+    int deleteConferenceSchedules(Long conferenceId);
+
+    // 회의로 등록된 팀원들의 일정 일괄 수정, 변경된 시간에 다른 일정이 있는 팀원의 회의 일정은 삭제
+    List<ScheduleConflictResDto> modifyConferenceSchedules(Long conferenceId, ScheduleReqDto scheduleReqDto);
+
     // 개인 일정 삭제
     ScheduleResDto deleteSchedule(Long userId, Long alarmId);
 
@@ -22,6 +36,13 @@ public interface ScheduleService {
     // 해당 일자 전체 일정 조회
     List<ScheduleTimeDto> getAllMemberSchedule(Long userId, Long teamId, String day);
 
+    // 여러 팀의 하루 일정 히트맵 조회
+    List<ScheduleHeatmapResDto> getTeamHeatmaps(Long userId, List<Long> teamIds, String day);
+
+    // 기간 내 팀원들이 함께 비어있는 시간대 조회
+    List<FreeSlotResDto> findFreeSlots(Long userId, Long teamId, String start, String end, int minutes,
+                                       String workStart, String workEnd, Integer quorum, int limit);
+
     // 개인 일정 수정
     void modifySchedule(Long userId, ScheduleReqDto scheduleReqDto, Long scheduleId);
 
@@ -1,14 +1,23 @@
 package com.mefi.backend.api.service;
 
 import com.mefi.backend.api.request.ScheduleReqDto;
+import com.mefi.backend.api.response.FreeSlotResDto;
 import com.mefi.backend.api.response.ScheduleCalResDto;
+import com.mefi.backend.api.response.ScheduleConflictResDto;
 import com.mefi.backend.api.response.ScheduleDetailResDto;
+import com.mefi.backend.api.response.ScheduleHeatmapResDto;
 import com.mefi.backend.api.response.ScheduleResDto;
 import com.mefi.backend.api.response.ScheduleTimeDto;
 import com.mefi.backend.common.exception.ErrorCode;
 import com.mefi.backend.common.exception.Exceptions;
+import com.mefi.backend.common.util.DayBitset;
+import com.mefi.backend.common.util.FreeSlotFinder;
 import com.mefi.backend.db.entity.*;
+import com.mefi.backend.db.repository.MemberScheduleInterval;
+import com.mefi.backend.db.repository.ScheduleBitsetCache;
+import com.mefi.backend.db.repository.ScheduleIntervalCache;
 import com.mefi.backend.db.repository.ScheduleRepository;
+import com.mefi.backend.db.repository.TeamMembership;
 import com.mefi.backend.db.repository.TeamUserRepository;
 import com.mefi.backend.db.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,10 +26,20 @@ import org.springframework.cglib.core.Local;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,15 +50,21 @@ public class ScheduleServiceImpl implements  ScheduleService{
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
     private final TeamUserRepository teamUserRepository;
+    private final ScheduleIntervalCache scheduleIntervalCache;
+    private final ScheduleBitsetCache scheduleBitsetCache;
+    private final ConferenceStatService conferenceStatService;
+
+    private static final int FREE_SLOT_MAX_DAYS = 31; // 빈 시간대 최대 조회 기간
+    private static final int FREE_SLOT_MAX_LIMIT = 50; // 빈 시간대 최대 조회 개수
+    private static final int HEATMAP_MAX_TEAMS = 20; // 히트맵 한 번에 조회할 최대 팀 수
 
     @Override
     @Transactional
     public void createSchedule(Long userId, ScheduleReqDto scheduleReqDto) {
         // 유저 조회, 해당 회원이 존재하지 않으면 예외 처리
-        User user = userRepository.findById(userId).orElseThrow(()->new Exceptions(ErrorCode.MEMBER_NOT_EXIST));
-
-        // 시간이 겹치는 일정이 존재하면 예외 처리
-        checkDuplicateSchedule(userId, -1L, scheduleReqDto.getStartedTime(), scheduleReqDto.getEndTime());
+        // 시간이 겹치는 일정이 존재하면 예외 처리, 일정 구간 캐시는 서버별로 보관되어 다른 서버의 변경을 모르므로 유저를 잠근 뒤 DB에서 확인
+        User user = userRepository.findByIdForUpdate(userId).orElseThrow(()->new Exceptions(ErrorCode.MEMBER_NOT_EXIST));
+        checkDuplicateScheduleInDb(userId, -1L, scheduleReqDto.getStartedTime(), scheduleReqDto.getEndTime());
 
         // 일정 등록
         PrivateSchedule privateSchedule = PrivateSchedule.builder()
@@ -53,6 +78,88 @@ public class ScheduleServiceImpl implements  ScheduleService{
 
         // 일정 등록
         scheduleRepository.save(privateSchedule);
+        scheduleIntervalCache.invalidate(userId);
+    }
+
+    @Override
+    @Transactional
+    public List<ScheduleConflictResDto> createSchedules(List<Long> userIds, ScheduleReqDto scheduleReqDto, Conference conference) {
+        List<Long> targets = new ArrayList<>(new LinkedHashSet<>(userIds));
+        if(targets.isEmpty()) return List.of();
+
+        // 개인 일정 등록, 수정과 동시에 중복 검사를 통과하지 않도록 유저를 잠근 뒤 모든 유저의 겹치는 일정을 한 번에 조회
+        userRepository.findAllByIdForUpdate(targets);
+        Set<Long> conflicted = scheduleRepository.findOverlapsForUpdate(targets, scheduleReqDto.getStartedTime(), scheduleReqDto.getEndTime())
+                .stream()
+                .map(schedule -> schedule.getUser().getId())
+                .collect(Collectors.toSet());
+
+        // 겹치는 일정이 없는 유저에게만 일정 등록, 유저는 조회 없이 참조만 사용
+        List<PrivateSchedule> schedules = new ArrayList<>();
+        List<ScheduleConflictResDto> result = new ArrayList<>();
+        for(Long userId : targets){
+            boolean conflict = conflicted.contains(userId);
+            result.add(new ScheduleConflictResDto(userId, conflict));
+            if(conflict) continue;
+
+            schedules.add(PrivateSchedule.builder()
+                    .user(userRepository.getReferenceById(userId))
+                    .startedTime(scheduleReqDto.getStartedTime())
+                    .endTime(scheduleReqDto.getEndTime())
+                    .summary(scheduleReqDto.getSummary())
+                    .description(scheduleReqDto.getDescription())
+                    .type(scheduleReqDto.getType())
+                    .conference(conference)
+                    .build());
+        }
+
+        // DB 일괄 저장 후 일정 캐시 삭제
+        scheduleRepository.saveAllInBatch(schedules);
+        scheduleIntervalCache.invalidateAll(targets.stream().filter(userId -> !conflicted.contains(userId)).toList());
+        log.info("[Created] {}명 일정 등록, {}명 일정 중복", schedules.size(), conflicted.size());
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public int deleteConferenceSchedules(Long conferenceId) {
+        // 회의 일정을 가진 유저 조회 후 한 번의 DELETE로 삭제
+        List<Long> userIds = scheduleRepository.findUserIdsByConferenceId(conferenceId);
+        if(userIds.isEmpty()) return 0;
+
+        int deleted = scheduleRepository.deleteByConferenceId(conferenceId);
+        scheduleIntervalCache.invalidateAll(userIds);
+        log.info("[Deleted] 회의 {} 일정 {}건 삭제", conferenceId, deleted);
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public List<ScheduleConflictResDto> modifyConferenceSchedules(Long conferenceId, ScheduleReqDto scheduleReqDto) {
+        List<Long> userIds = scheduleRepository.findUserIdsByConferenceId(conferenceId);
+        if(userIds.isEmpty()) return List.of();
+
+        // 유저를 잠근 뒤 변경된 시간에 회의 외의 일정이 겹치는 유저를 한 번에 조회
+        userRepository.findAllByIdForUpdate(userIds);
+        Set<Long> conflicted = scheduleRepository.findOverlapsForUpdate(userIds, scheduleReqDto.getStartedTime(), scheduleReqDto.getEndTime())
+                .stream()
+                .filter(schedule -> schedule.getConference() == null || !schedule.getConference().getId().equals(conferenceId))
+                .map(schedule -> schedule.getUser().getId())
+                .collect(Collectors.toSet());
+
+        // 겹치는 유저의 회의 일정은 삭제하고 나머지는 한 번의 UPDATE로 수정
+        if(!conflicted.isEmpty()) {
+            scheduleRepository.deleteByConferenceIdAndUserIds(conferenceId, new ArrayList<>(conflicted));
+        }
+        int updated = scheduleRepository.updateByConferenceId(conferenceId,
+                scheduleReqDto.getStartedTime(), scheduleReqDto.getEndTime(),
+                scheduleReqDto.getSummary(), scheduleReqDto.getDescription());
+
+        scheduleIntervalCache.invalidateAll(userIds);
+        log.info("[Modified] 회의 {} 일정 {}건 수정, {}명 일정 중복", conferenceId, updated, conflicted.size());
+        return userIds.stream()
+                .map(userId -> new ScheduleConflictResDto(userId, conflicted.contains(userId)))
+                .toList();
     }
 
     @Override
@@ -66,8 +173,14 @@ public class ScheduleServiceImpl implements  ScheduleService{
             throw new Exceptions(ErrorCode.SCHEDULE_ACCESS_DENIED);
         }
 
+        // 회의로 등록된 일정이라면 팀원별 회의 집계에서 뺌
+        if(schedule.getConference() != null){
+            conferenceStatService.retractSchedule(schedule.getId());
+        }
+
         // 일정 삭제
         scheduleRepository.delete(schedule);
+        scheduleIntervalCache.invalidate(userId);
         return new ScheduleResDto(schedule);
     }
 
@@ -103,8 +216,92 @@ public class ScheduleServiceImpl implements  ScheduleService{
         LocalDateTime date = LocalDateTime.parse(day + "000000.000", DateTimeFormatter.ofPattern("yyyyMMddHHmmss.SSS"));
         log.info("date {}", date);
 
-        // 팀원들 일정 조회
-        return scheduleRepository.findAllMemberSchedule(memberIds, date);
+        // 팀원들 일정 조회, 조회 일자 0시부터 다음 날 0시 전까지
+        return scheduleRepository.findAllMemberSchedule(memberIds, date, date.plusDays(1));
+    }
+
+    @Override
+    public List<ScheduleHeatmapResDto> getTeamHeatmaps(Long userId, List<Long> teamIds, String day) {
+        // 조회 일자 파싱
+        LocalDate date;
+        try{
+            date = LocalDate.parse(day, DateTimeFormatter.BASIC_ISO_DATE);
+        }catch(DateTimeParseException e){
+            throw new Exceptions(ErrorCode.NOT_VALID_REQUEST);
+        }
+
+        // 조회할 팀 수 제한
+        Set<Long> targets = new LinkedHashSet<>(teamIds);
+        if(targets.size() > HEATMAP_MAX_TEAMS) throw new Exceptions(ErrorCode.NOT_VALID_REQUEST);
+        if(targets.isEmpty()) return List.of();
+
+        // 모든 팀의 팀원을 한 번에 조회하여 팀별로 묶음
+        Map<Long, List<Long>> teamMembers = new LinkedHashMap<>();
+        targets.forEach(teamId -> teamMembers.put(teamId, new ArrayList<>()));
+        for(TeamMembership membership : teamUserRepository.findMembershipsByTeamIds(targets)){
+            teamMembers.get(membership.getTeamId()).add(membership.getUserId());
+        }
+
+        // 팀원이 아닌 팀이 있다면 예외 처리
+        for(List<Long> memberIds : teamMembers.values()){
+            if(!memberIds.contains(userId)) throw new Exceptions(ErrorCode.TEAM_ACCESS_DENIED);
+        }
+
+        // 모든 팀원의 하루 일정 비트셋을 한 번에 조회
+        Set<Long> userIds = new HashSet<>();
+        teamMembers.values().forEach(userIds::addAll);
+        Map<Long, long[]> bitsets = scheduleBitsetCache.findDayBitsets(userIds, date);
+
+        // 팀별로 OR, AND 연산하여 히트맵 생성
+        List<ScheduleHeatmapResDto> result = new ArrayList<>();
+        teamMembers.forEach((teamId, memberIds) -> {
+            long[] anyBusy = DayBitset.empty();
+            long[] allBusy = memberIds.isEmpty() ? DayBitset.empty() : DayBitset.full();
+            int[] busyCounts = new int[DayBitset.SLOTS];
+            for(Long memberId : memberIds){
+                long[] bits = bitsets.get(memberId);
+                DayBitset.or(anyBusy, bits);
+                DayBitset.and(allBusy, bits);
+                DayBitset.addCounts(busyCounts, bits);
+            }
+            result.add(new ScheduleHeatmapResDto(teamId, date, DayBitset.SLOT_MINUTES, memberIds.size(),
+                    busyCounts, DayBitset.toHex(anyBusy), DayBitset.toHex(allBusy)));
+        });
+        return result;
+    }
+
+    @Override
+    public List<FreeSlotResDto> findFreeSlots(Long userId, Long teamId, String start, String end, int minutes,
+                                              String workStart, String workEnd, Integer quorum, int limit) {
+        // 팀원이 아닌 경우 예외 처리
+        teamUserRepository.findByUserIdAndTeamId(userId, teamId).orElseThrow(() -> new Exceptions(ErrorCode.TEAM_ACCESS_DENIED));
+
+        // 조회 기간과 근무 시간 파싱, 형식이 맞지 않거나 범위가 잘못된 경우 예외 처리
+        LocalDateTime from;
+        LocalDateTime to;
+        LocalTime dayStart;
+        LocalTime dayEnd;
+        try{
+            from = LocalDate.parse(start, DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay();
+            to = LocalDate.parse(end, DateTimeFormatter.BASIC_ISO_DATE).plusDays(1).atStartOfDay();
+            dayStart = LocalTime.parse(workStart, DateTimeFormatter.ofPattern("HHmm"));
+            dayEnd = LocalTime.parse(workEnd, DateTimeFormatter.ofPattern("HHmm"));
+        }catch(DateTimeParseException e){
+            throw new Exceptions(ErrorCode.NOT_VALID_REQUEST);
+        }
+        if(!to.isAfter(from) || to.isAfter(from.plusDays(FREE_SLOT_MAX_DAYS)) || !dayEnd.isAfter(dayStart) || minutes <= 0 || limit <= 0)
+            throw new Exceptions(ErrorCode.NOT_VALID_REQUEST);
+
+        // 정족수가 없으면 팀원 전체
+        List<Long> memberIds = teamUserRepository.findByUserId(teamId);
+        int required = quorum == null ? memberIds.size() : Math.min(Math.max(quorum, 1), memberIds.size());
+
+        // 기간 내 팀원들의 일정을 한 번에 조회한 뒤 메모리에서 병합
+        List<MemberScheduleInterval> intervals = scheduleRepository.findMemberIntervals(memberIds, from, to);
+        log.info("Team : {}, Members : {}, Schedules : {}", teamId, memberIds.size(), intervals.size());
+
+        return FreeSlotFinder.find(intervals, memberIds.size(), required, from, to, dayStart, dayEnd,
+                Duration.ofMinutes(minutes), Math.min(limit, FREE_SLOT_MAX_LIMIT));
     }
 
     @Override
@@ -118,8 +315,9 @@ public class ScheduleServiceImpl implements  ScheduleService{
             throw new Exceptions(ErrorCode.SCHEDULE_ACCESS_DENIED);
         }
 
-        // 시간이 겹치는 일정이 존재하면 예외 처리
-        checkDuplicateSchedule(userId, schedule.getId(), scheduleReqDto.getStartedTime(), scheduleReqDto.getEndTime());
+        // 시간이 겹치는 일정이 존재하면 예외 처리, 유저를 잠근 뒤 DB에서 확인
+        userRepository.findByIdForUpdate(userId);
+        checkDuplicateScheduleInDb(userId, schedule.getId(), scheduleReqDto.getStartedTime(), scheduleReqDto.getEndTime());
 
         // 만약 수정하려는 일정 타입이 회의라면 예외 발생
         if(schedule.getType() == ScheduleType.CONFERENCE){
@@ -127,6 +325,7 @@ public class ScheduleServiceImpl implements  ScheduleService{
         }
 
         schedule.changeDetail(scheduleReqDto.getSummary(), scheduleReqDto.getDescription(), scheduleReqDto.getStartedTime(), scheduleReqDto.getEndTime());
+        scheduleIntervalCache.invalidate(userId);
     }
 
     // 개인 일정 상세 조회
@@ -145,21 +344,28 @@ public class ScheduleServiceImpl implements  ScheduleService{
         return new ScheduleDetailResDto(ps.getId(), ps.getSummary(), ps.getDescription(), ps.getStartedTime(), ps.getEndTime(), ps.getType());
     }
 
-    // 해당 유저의 일정 중에서 중복되는 일정 체크
+    // 해당 유저의 일정 중에서 중복되는 일정 체크, 일정을 저장하지 않는 조회용 검사
     public boolean checkDuplicateSchedule(Long userId, Long scheduleId, LocalDateTime start, LocalDateTime end){
-        // 유저 스케줄 조회
-        List<PrivateSchedule> schedules = scheduleRepository.findDuplicationByUserAndTime(userId, start, end);
-
-        // 중복되는 일정이 있을 경우, 확인 후 예외 처리
-        int count = schedules.size();
-        if(count>1) {
-            throw new Exceptions(ErrorCode.SCHEDULE_DUPLICATED); // 2개 이상의 일정과 겹치는 경우
-        }
-        if(count==1) {
-            if(schedules.get(0).getId()!=scheduleId){
-                throw new Exceptions(ErrorCode.SCHEDULE_DUPLICATED); // 다른 일정과 겹치는 경우
-            }
+        // 겹치는 일정 조회, 유저별 일정 구간 캐시에서 이진 탐색
+        boolean cached = scheduleIntervalCache.findOverlaps(userId, start, end).stream()
+                .anyMatch(id -> !id.equals(scheduleId));
+        if(!cached) return true;
+
+        // 캐시는 다른 서버에서 삭제, 수정된 일정을 모를 수 있으므로 캐시에서 겹친 경우 DB로 다시 확인한 뒤 예외 처리
+        boolean duplicated = scheduleRepository.findDuplicationByUserAndTime(userId, start, end).stream()
+                .anyMatch(schedule -> !schedule.getId().equals(scheduleId));
+        if(duplicated) {
+            throw new Exceptions(ErrorCode.SCHEDULE_DUPLICATED);
         }
         return true;
     }
+
+    // 유저를 잠근 트랜잭션 안에서 DB의 일정으로 중복 검사, 다른 서버에서 등록된 일정도 확인한다
+    private void checkDuplicateScheduleInDb(Long userId, Long scheduleId, LocalDateTime start, LocalDateTime end){
+        boolean duplicated = scheduleRepository.findOverlapsForUpdate(List.of(userId), start, end).stream()
+                .anyMatch(schedule -> !schedule.getId().equals(scheduleId));
+        if(duplicated) {
+            throw new Exceptions(ErrorCode.SCHEDULE_DUPLICATED);
+        }
+    }
 }
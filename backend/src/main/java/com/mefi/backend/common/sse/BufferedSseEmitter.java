@@ -0,0 +1,223 @@
+package com.mefi.backend.common.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 연결마다 고정 크기 전송 대기열을 가지는 SSE Emitter
+ * 이벤트 등록은 즉시 반환되고, 실제 전송은 전송 스레드 풀에서 연결별로 순서대로 처리된다
+ * 전송 하나가 제한 시간을 넘기면 연결을 종료 처리하여 더 이상 전송 작업이 등록되지 않도록 한다
+ */
+@Slf4j
+public class BufferedSseEmitter extends SseEmitter {
+
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    private final Object lock = new Object(); // 전송 중 대기열 접근이 막히지 않도록 SseEmitter와 별도의 잠금 사용
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor writer;
+    private final SseSendMetrics metrics;
+    private final Runnable onFailure;
+
+    private boolean draining; // 전송 작업 등록 여부
+    private boolean closed; // 연결 종료 여부
+    private Runnable onDrained; // 대기열이 비었을 때 한 번 실행할 작업
+    private long sendingSince; // 진행 중인 전송의 시작 시각 (나노초), 전송 중이 아니면 0
+
+    public BufferedSseEmitter(Long timeout, int capacity, OverflowPolicy overflowPolicy,
+                              Executor writer, SseSendMetrics metrics, Runnable onFailure) {
+        super(timeout);
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.writer = writer;
+        this.metrics = metrics;
+        this.onFailure = onFailure;
+    }
+
+    // 전송 대기열에 이벤트 등록, 연결이 종료된 경우 false 반환
+    public boolean enqueue(SseEventBuilder event) {
+        boolean schedule = false;
+        boolean evict = false;
+        synchronized (lock){
+            if(closed) return false;
+
+            // 대기열이 가득 찬 경우 정책에 따라 처리
+            if(queue.size() >= capacity){
+                switch (overflowPolicy){
+                    case DROP_OLDEST -> {
+                        queue.pollFirst();
+                        metrics.dropped(1);
+                    }
+                    case COALESCE -> {
+                        metrics.coalesced(queue.size());
+                        queue.clear();
+                    }
+                    case DISCONNECT -> {
+                        // 완료 처리는 전송 중인 쓰기가 끝나야 진행되므로 등록한 스레드가 아닌 전송 스레드에 맡긴다
+                        closed = true;
+                        evict = true;
+                        queue.clear();
+                        onDrained = null;
+                        schedule = !draining;
+                        draining = true;
+                    }
+                }
+            }
+
+            if(!evict){
+                queue.offerLast(new Pending(event, System.nanoTime()));
+                schedule = !draining;
+                draining = true;
+            }
+        }
+
+        // 느린 클라이언트 연결 종료, 전송 작업이 없다면 완료 처리만 하는 전송 작업 등록
+        if(evict){
+            log.info("전송 대기열 초과로 SSE 연결을 종료합니다");
+            metrics.evicted();
+            onFailure.run();
+            if(schedule) scheduleDrain();
+            return false;
+        }
+
+        // 전송 작업이 없는 경우에만 등록
+        if(schedule) scheduleDrain();
+        return true;
+    }
+
+    // 하트비트 등록, 연결이 종료된 경우 false 반환
+    // 대기열이 비어 있을 때만 등록하여 초과 정책에 따라 실제 알림을 밀어내지 않도록 하고, 대기 중인 이벤트가 있다면 그 전송으로 연결을 확인한다
+    public boolean enqueueHeartbeat(SseEventBuilder event) {
+        boolean schedule;
+        synchronized (lock){
+            if(closed) return false;
+            if(!queue.isEmpty()) return true;
+
+            queue.offerLast(new Pending(event, System.nanoTime()));
+            schedule = !draining;
+            draining = true;
+        }
+
+        if(schedule) scheduleDrain();
+        return true;
+    }
+
+    // 대기열이 모두 전송된 뒤 한 번 실행할 작업 등록, 대기열 크기를 넘는 이벤트를 나누어 등록할 때 사용
+    // 이벤트를 모두 등록한 뒤 호출하며, 이미 전송이 끝나 대기열이 비어 있다면 즉시 실행한다
+    public void onDrained(Runnable callback) {
+        synchronized (lock){
+            if(closed) return;
+            if(draining || !queue.isEmpty()){
+                this.onDrained = callback;
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    // 진행 중인 전송이 제한 시간을 넘긴 경우 연결 종료 처리, 종료했다면 true 반환
+    // 멈춘 전송은 소켓 쓰기 제한 시간이 지나야 반환되므로 완료 처리는 전송 스레드가 깨어난 뒤 진행한다
+    public boolean closeIfStalled(long timeoutNanos) {
+        synchronized (lock){
+            if(closed || sendingSince == 0 || System.nanoTime() - sendingSince < timeoutNanos) return false;
+            closed = true;
+            queue.clear();
+            onDrained = null;
+        }
+
+        log.info("전송 지연으로 SSE 연결을 종료합니다");
+        metrics.evicted();
+        onFailure.run();
+        return true;
+    }
+
+    // 전송 실패나 대기열 초과로 연결이 종료되었는지 여부
+    public boolean isClosed() {
+        synchronized (lock){
+            return closed;
+        }
+    }
+
+    private void scheduleDrain() {
+        try{
+            writer.execute(this::drain);
+        }catch(RejectedExecutionException e){
+            // 다음 이벤트 등록 시 다시 전송 작업을 등록
+            synchronized (lock){
+                draining = false;
+            }
+            metrics.rejected();
+        }
+    }
+
+    // 대기열이 빌 때까지 순서대로 전송
+    private void drain() {
+        while(true){
+            Pending pending;
+            Runnable callback = null;
+            boolean closedBeforeSend;
+            synchronized (lock){
+                closedBeforeSend = closed;
+                pending = closedBeforeSend ? null : queue.pollFirst();
+                if(pending == null){
+                    draining = false;
+                    callback = onDrained;
+                    onDrained = null;
+                }else{
+                    sendingSince = System.nanoTime();
+                }
+            }
+
+            // 종료 처리된 연결이라면 전송 스레드에서 완료 처리
+            if(closedBeforeSend){
+                complete();
+                return;
+            }
+
+            // 대기열이 비면 등록된 작업 실행 후 종료
+            if(pending == null){
+                if(callback != null) callback.run();
+                return;
+            }
+
+            try{
+                send(pending.event());
+                metrics.recordLatency(System.nanoTime() - pending.enqueuedAt());
+            }catch(IOException | IllegalStateException e){
+                log.info("알림 전송 중 오류가 발생하였습니다 : {}", e.getMessage());
+                boolean alreadyClosed; // 지연으로 이미 종료 처리된 경우 삭제 작업은 실행되었음
+                synchronized (lock){
+                    alreadyClosed = closed;
+                    closed = true;
+                    sendingSince = 0;
+                    queue.clear();
+                    onDrained = null;
+                }
+                if(!alreadyClosed) onFailure.run();
+                return;
+            }
+
+            // 전송하는 동안 지연이나 대기열 초과로 종료 처리되었다면 연결을 닫고 종료
+            boolean closedWhileSending;
+            synchronized (lock){
+                sendingSince = 0;
+                closedWhileSending = closed;
+                if(closedWhileSending) draining = false;
+            }
+            if(closedWhileSending){
+                complete();
+                return;
+            }
+        }
+    }
+
+    // 대기 중인 이벤트와 등록 시각
+    private record Pending(SseEventBuilder event, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.mefi.backend.common.sse;
+
+// SSE 전송 대기열이 가득 찼을 때의 처리 방식
+public enum OverflowPolicy {
+    DROP_OLDEST, // 가장 오래된 이벤트를 버리고 새 이벤트 추가
+    COALESCE, // 대기 중인 이벤트를 모두 버리고 최신 이벤트만 유지
+    DISCONNECT // 느린 클라이언트로 판단하여 연결 종료
+}
@@ -0,0 +1,57 @@
+package com.mefi.backend.common.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// SSE 전송 대기열 관련 지표
+@Component
+public class SseSendMetrics {
+
+    private final Timer latency;
+    private final Counter dropped;
+    private final Counter coalesced;
+    private final Counter evicted;
+    private final Counter rejected;
+
+    public SseSendMetrics(MeterRegistry meterRegistry) {
+        this.latency = Timer.builder("noti.dispatch.latency")
+                .description("대기열 등록 이후 알림 전송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("noti.emitter.dropped")
+                .description("대기열 초과로 버려진 알림 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("noti.emitter.coalesced")
+                .description("대기열 초과로 최신 알림에 병합된 알림 수")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("noti.emitter.evicted")
+                .description("대기열 초과나 전송 지연으로 연결이 종료된 느린 클라이언트 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("noti.dispatch.rejected")
+                .description("전송 스레드 풀 대기열 초과로 거절된 전송 작업 수")
+                .register(meterRegistry);
+    }
+
+    public void recordLatency(long nanos) {
+        latency.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void dropped(int count) {
+        dropped.increment(count);
+    }
+
+    public void coalesced(int count) {
+        coalesced.increment(count);
+    }
+
+    public void evicted() {
+        evicted.increment();
+    }
+
+    public void rejected() {
+        rejected.increment();
+    }
+}
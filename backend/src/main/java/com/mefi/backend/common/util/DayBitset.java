@@ -0,0 +1,71 @@
+package com.mefi.backend.common.util;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 하루를 15분 단위 96칸으로 나눈 비트셋, long 두 개로 표현한다
+ * i번째 비트는 0시부터 i번째 15분 구간에 일정이 있는지를 나타낸다
+ */
+public final class DayBitset {
+
+    public static final int SLOT_MINUTES = 15; // 한 칸의 길이 (분)
+    public static final int SLOTS = 24 * 60 / SLOT_MINUTES; // 하루 칸 수
+    private static final int WORDS = (SLOTS + 63) / 64;
+    private static final long SLOT_SECONDS = SLOT_MINUTES * 60L;
+
+    private DayBitset() {
+    }
+
+    // 빈 비트셋 생성
+    public static long[] empty() {
+        return new long[WORDS];
+    }
+
+    // 모든 칸이 채워진 비트셋 생성
+    public static long[] full() {
+        long[] bits = empty();
+        for(int i = 0; i < SLOTS; i++) bits[i >>> 6] |= 1L << (i & 63);
+        return bits;
+    }
+
+    // [start, end) 구간이 걸치는 칸을 모두 표시, 하루 밖의 구간은 잘라낸다
+    public static void mark(long[] bits, LocalDate day, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        long from = Math.max(0, Math.floorDiv(Duration.between(dayStart, start).toSeconds(), SLOT_SECONDS));
+        long to = Math.min(SLOTS, Math.floorDiv(Duration.between(dayStart, end).toSeconds() + SLOT_SECONDS - 1, SLOT_SECONDS));
+        for(int i = (int) from; i < to; i++) bits[i >>> 6] |= 1L << (i & 63);
+    }
+
+    // target에 bits를 OR 연산
+    public static void or(long[] target, long[] bits) {
+        for(int i = 0; i < WORDS; i++) target[i] |= bits[i];
+    }
+
+    // target에 bits를 AND 연산
+    public static void and(long[] target, long[] bits) {
+        for(int i = 0; i < WORDS; i++) target[i] &= bits[i];
+    }
+
+    // 표시된 칸마다 개수 증가
+    public static void addCounts(int[] counts, long[] bits) {
+        for(int i = 0; i < WORDS; i++){
+            long word = bits[i];
+            while(word != 0){
+                counts[(i << 6) + Long.numberOfTrailingZeros(word)]++;
+                word &= word - 1;
+            }
+        }
+    }
+
+    // 16진수 문자열로 변환, k번째 문자는 4k ~ 4k+3번째 칸을 나타내며 4k번째 칸이 가장 낮은 비트
+    public static String toHex(long[] bits) {
+        StringBuilder sb = new StringBuilder(SLOTS / 4);
+        for(int k = 0; k < SLOTS / 4; k++){
+            int slot = k * 4;
+            sb.append(Character.forDigit((int) (bits[slot >>> 6] >>> (slot & 63)) & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package com.mefi.backend.common.util;
+
+import com.mefi.backend.db.repository.EventIdNodeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 시간 순으로 정렬되는 64비트 이벤트 ID 생성기
+ * [41비트 밀리초 타임스탬프 | 10비트 노드 ID | 12비트 순번]으로 구성되어
+ * 노드 안에서는 유일하고 단조 증가하며, 노드 사이에서도 생성 시간 순으로 정렬된다
+ * 노드 ID를 지정하지 않으면 시작할 때 DB에서 다른 서버가 쓰지 않는 노드 ID를 임대하고 주기적으로 연장한다
+ */
+@Slf4j
+@Component
+public class EventIdGenerator {
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final EventIdNodeRepository eventIdNodeRepository;
+    private final long configuredNodeId; // 설정으로 지정한 노드 ID, 지정하지 않았다면 -1
+    private long nodeId = -1; // 현재 사용하는 노드 ID
+    private String leaseOwner; // 노드 ID 임대에 사용한 서버 식별값
+    private long lastTimestamp = -1L; // 마지막으로 ID를 발급한 시간
+    private long sequence; // 같은 밀리초 안의 순번
+
+    @Value("${noti.event-id.lease-seconds:300}")
+    private long leaseSeconds; // 노드 ID 임대 시간, 연장 주기보다 충분히 길게 설정
+
+    // 범위를 벗어난 노드 ID는 잘라내면 다른 노드와 겹칠 수 있으므로 시작을 중단
+    public EventIdGenerator(@Value("${noti.event-id.node-id:-1}") long nodeId, EventIdNodeRepository eventIdNodeRepository) {
+        if(nodeId < -1 || nodeId > MAX_NODE_ID){
+            throw new IllegalArgumentException("noti.event-id.node-id must be between 0 and " + MAX_NODE_ID + ", or -1 to lease one: " + nodeId);
+        }
+        this.configuredNodeId = nodeId;
+        this.eventIdNodeRepository = eventIdNodeRepository;
+    }
+
+    // 지정한 노드 ID가 없다면 DB에서 임대, 임대할 수 없다면 시작을 중단
+    @PostConstruct
+    protected void init() {
+        if(configuredNodeId >= 0){
+            assignNodeId(configuredNodeId);
+            log.info("Event ID Node : {} (configured)", configuredNodeId);
+            return;
+        }
+        claimNodeId();
+    }
+
+    // 임대 시간 연장, 연장하지 못한 사이 다른 서버가 차지했다면 새 노드 ID 임대
+    @Scheduled(fixedDelayString = "${noti.event-id.renew-interval-ms:60000}")
+    protected void renewLease() {
+        if(leaseOwner == null) return;
+        try{
+            if(eventIdNodeRepository.renew((int) currentNodeId(), leaseOwner, leaseSeconds)) return;
+            log.warn("[Lease Lost] 이벤트 ID 노드 {} 임대가 만료되어 새 노드 ID 임대", currentNodeId());
+            claimNodeId();
+        }catch(DataAccessException e){
+            // DB 장애 중에는 현재 노드 ID를 유지하고 다음 주기에 다시 연장
+            log.warn("[Lease Renew Failed] 이벤트 ID 노드 {} 임대 연장 실패", currentNodeId(), e);
+        }
+    }
+
+    // 종료 시 다른 서버가 바로 재사용할 수 있도록 임대 해제
+    @PreDestroy
+    protected void release() {
+        if(leaseOwner == null) return;
+        try{
+            eventIdNodeRepository.release((int) currentNodeId(), leaseOwner);
+        }catch(DataAccessException e){
+            log.warn("[Lease Release Failed] 이벤트 ID 노드 {} 임대 해제 실패, 임대 시간이 지나면 재사용된다", currentNodeId(), e);
+        }
+    }
+
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis();
+
+        // 시계가 뒤로 돌아간 경우에도 단조 증가하도록 마지막 시간 유지
+        if(now <= lastTimestamp){
+            now = lastTimestamp;
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            // 같은 밀리초의 순번을 모두 사용하면 다음 밀리초로 넘어감
+            if(sequence == 0) now++;
+        }else{
+            sequence = 0;
+        }
+        lastTimestamp = now;
+
+        return ((now - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    // 다른 서버가 쓰지 않는 노드 ID 임대, 임대할 때마다 새 식별값을 사용한다
+    private void claimNodeId() {
+        String owner = UUID.randomUUID().toString();
+        Integer claimed = eventIdNodeRepository.claim(owner, (int) MAX_NODE_ID, leaseSeconds);
+        if(claimed == null) throw new IllegalStateException("All " + (MAX_NODE_ID + 1) + " event ID node IDs are leased");
+
+        // ID 발급 중에는 DB를 기다리지 않도록 임대가 끝난 뒤 노드 ID만 바꾼다
+        assignNodeId(claimed);
+        leaseOwner = owner;
+        log.info("Event ID Node : {} (leased)", claimed);
+    }
+
+    private synchronized void assignNodeId(long nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    private synchronized long currentNodeId() {
+        return nodeId;
+    }
+}
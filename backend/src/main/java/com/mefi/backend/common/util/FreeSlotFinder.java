@@ -0,0 +1,163 @@
+package com.mefi.backend.common.util;
+
+import com.mefi.backend.api.response.FreeSlotResDto;
+import com.mefi.backend.db.repository.MemberScheduleInterval;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀원들의 일정 구간을 시간 순으로 한 번 훑어 정족수 이상이 비어있는 시간대를 찾는다
+ * 일정의 시작과 종료를 이벤트로 정렬하고, 바쁜 팀원 수가 바뀌는 지점마다 빈 구간을 이어 붙인 뒤 근무 시간으로 잘라 회의 시간 단위로 나눈다
+ * 매 순간 정족수가 비어있더라도 순간마다 비어있는 팀원이 다를 수 있으므로, 나눈 시간대마다 전체 시간 동안 일정이 없는 팀원 수를 다시 센다
+ */
+public final class FreeSlotFinder {
+
+    private FreeSlotFinder() {
+    }
+
+    /**
+     * @param intervals   팀원들의 일정 구간
+     * @param memberCount 전체 팀원 수
+     * @param quorum      함께 비어있어야 하는 최소 팀원 수
+     * @param from        조회 시작 시간
+     * @param to          조회 종료 시간 (포함하지 않음)
+     * @param workStart   하루 근무 시작 시간
+     * @param workEnd     하루 근무 종료 시간
+     * @param length      회의 시간
+     * @param limit       최대 결과 개수
+     */
+    public static List<FreeSlotResDto> find(List<MemberScheduleInterval> intervals, int memberCount, int quorum,
+                                            LocalDateTime from, LocalDateTime to, LocalTime workStart, LocalTime workEnd,
+                                            Duration length, int limit) {
+        // 시작은 +1, 종료는 -1 이벤트로 변환 후 시간 순 정렬, 같은 시간이라면 종료를 먼저 처리하여 연달아 있는 일정 사이를 비우지 않음
+        List<Event> events = new ArrayList<>(intervals.size() * 2);
+        for(MemberScheduleInterval interval : intervals){
+            if(!interval.getEndTime().isAfter(interval.getStartedTime())) continue;
+            events.add(new Event(interval.getStartedTime(), interval.getUserId(), 1));
+            events.add(new Event(interval.getEndTime(), interval.getUserId(), -1));
+        }
+        events.sort(Comparator.comparing(Event::time).thenComparingInt(Event::delta));
+        events.add(new Event(to, null, 0)); // 조회 종료 지점
+
+        List<FreeSlotResDto> slots = new ArrayList<>();
+        BusyMembers busyMembers = new BusyMembers(intervals);
+        Map<Long, Integer> active = new HashMap<>(); // 팀원별 진행 중인 일정 수, 같은 팀원의 겹치는 일정을 한 번만 센다
+        int busy = 0; // 현재 일정이 있는 팀원 수
+        LocalDateTime cursor = from; // 현재 상태가 시작된 시간
+        LocalDateTime runStart = null; // 이어지는 빈 구간의 시작
+
+        for(Event event : events){
+            LocalDateTime time = event.time().isAfter(to) ? to : event.time();
+
+            // 직전 이벤트부터 현재 이벤트 전까지는 바쁜 팀원 수가 같다
+            if(time.isAfter(cursor)){
+                int available = memberCount - busy;
+                if(available >= quorum){
+                    if(runStart == null) runStart = cursor;
+                }else if(runStart != null){
+                    // 빈 구간이 끝나면 회의 시간 단위로 나눈다
+                    split(slots, busyMembers, runStart, cursor, memberCount, quorum, workStart, workEnd, length, limit);
+                    runStart = null;
+                    if(slots.size() >= limit) return slots;
+                }
+                cursor = time;
+            }
+            if(!cursor.isBefore(to)) break;
+
+            // 바쁜 팀원 수 갱신
+            if(event.userId() != null){
+                int count = active.merge(event.userId(), event.delta(), Integer::sum);
+                if(event.delta() > 0 && count == 1) busy++;
+                if(event.delta() < 0 && count == 0){
+                    busy--;
+                    active.remove(event.userId());
+                }
+            }
+        }
+
+        if(runStart != null) split(slots, busyMembers, runStart, cursor, memberCount, quorum, workStart, workEnd, length, limit);
+        return slots;
+    }
+
+    // 빈 구간 [start, end)를 날짜별 근무 시간으로 자른 뒤 회의 시간 단위로 나누고, 시간대 전체 동안 정족수 이상이 비어있는 시간대만 추가
+    private static void split(List<FreeSlotResDto> slots, BusyMembers busyMembers, LocalDateTime start, LocalDateTime end,
+                              int memberCount, int quorum, LocalTime workStart, LocalTime workEnd, Duration length, int limit) {
+        for(LocalDate day = start.toLocalDate(); day.atTime(workStart).isBefore(end); day = day.plusDays(1)){
+            LocalDateTime slotStart = max(start, day.atTime(workStart));
+            LocalDateTime windowEnd = min(end, day.atTime(workEnd));
+
+            while(!slotStart.plus(length).isAfter(windowEnd)){
+                int available = memberCount - busyMembers.count(slotStart, slotStart.plus(length));
+                if(available >= quorum){
+                    slots.add(new FreeSlotResDto(slotStart, slotStart.plus(length), available));
+                    if(slots.size() >= limit) return;
+                }
+                slotStart = slotStart.plus(length);
+            }
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    // 일정 시작 또는 종료 이벤트
+    private record Event(LocalDateTime time, Long userId, int delta) {
+    }
+
+    /**
+     * 팀원별로 겹치거나 맞닿은 일정을 합친 구간 목록, 시간대마다 일정이 겹치는 팀원 수를 센다
+     * 시간대는 시간 순으로만 확인하므로 팀원별 위치를 앞으로만 옮기며 전체 일정을 한 번만 훑는다
+     */
+    private static final class BusyMembers {
+
+        private final List<List<LocalDateTime[]>> merged = new ArrayList<>(); // 팀원별 합친 일정 구간 [시작, 종료)
+        private final int[] positions; // 팀원별 아직 끝나지 않았을 수 있는 첫 구간 위치
+
+        BusyMembers(List<MemberScheduleInterval> intervals) {
+            Map<Long, List<MemberScheduleInterval>> byMember = new HashMap<>();
+            for(MemberScheduleInterval interval : intervals){
+                if(!interval.getEndTime().isAfter(interval.getStartedTime())) continue;
+                byMember.computeIfAbsent(interval.getUserId(), userId -> new ArrayList<>()).add(interval);
+            }
+
+            for(List<MemberScheduleInterval> memberIntervals : byMember.values()){
+                memberIntervals.sort(Comparator.comparing(MemberScheduleInterval::getStartedTime));
+                List<LocalDateTime[]> ranges = new ArrayList<>();
+                for(MemberScheduleInterval interval : memberIntervals){
+                    LocalDateTime[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+                    if(last != null && !interval.getStartedTime().isAfter(last[1])){
+                        last[1] = max(last[1], interval.getEndTime());
+                    }else{
+                        ranges.add(new LocalDateTime[]{interval.getStartedTime(), interval.getEndTime()});
+                    }
+                }
+                merged.add(ranges);
+            }
+            positions = new int[merged.size()];
+        }
+
+        // [start, end) 시간대와 겹치는 일정이 있는 팀원 수, start는 직전 호출보다 이르지 않아야 한다
+        int count(LocalDateTime start, LocalDateTime end) {
+            int busy = 0;
+            for(int i = 0; i < merged.size(); i++){
+                List<LocalDateTime[]> ranges = merged.get(i);
+                while(positions[i] < ranges.size() && !ranges.get(positions[i])[1].isAfter(start)) positions[i]++;
+                if(positions[i] < ranges.size() && ranges.get(positions[i])[0].isBefore(end)) busy++;
+            }
+            return busy;
+        }
+    }
+}
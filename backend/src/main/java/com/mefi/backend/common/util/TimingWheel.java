@@ -0,0 +1,73 @@
+package com.mefi.backend.common.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 실행 시각이 정해진 작업을 틱 단위 버킷에 나누어 담는 타이밍 휠
+ * 작업 추가는 버킷 위치만 계산하므로 O(1)이고, 틱마다 지나간 버킷만 확인하여 실행 시각이 된 작업을 꺼낸다
+ * 한 바퀴보다 먼 작업은 같은 버킷에 남아 있다가 실행 시각이 지난 뒤 확인할 때 꺼내진다
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis; // 버킷 하나가 담당하는 시간
+    private final List<List<Entry<T>>> buckets;
+    private long lastTick; // 마지막으로 확인한 틱
+    private int size; // 보관 중인 작업 수
+
+    public TimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if(tickMillis <= 0 || wheelSize <= 0) throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for(int i = 0; i < wheelSize; i++) buckets.add(new ArrayList<>());
+        this.lastTick = nowMillis / tickMillis;
+    }
+
+    // 실행 시각 이후 첫 틱의 버킷에 작업 추가, 이미 지난 시각이라면 다음 틱에 꺼내진다
+    public synchronized void add(long deadlineMillis, T item) {
+        long tick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, lastTick + 1);
+        buckets.get(bucketIndex(tick)).add(new Entry<>(deadlineMillis, item));
+        size++;
+    }
+
+    // 현재 시각까지 지나간 버킷을 확인하여 실행 시각이 된 작업을 꺼낸다
+    public synchronized List<T> advance(long nowMillis) {
+        long currentTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        if(currentTick <= lastTick) return expired;
+
+        // 한 바퀴 이상 지났다면 모든 버킷을 한 번씩만 확인
+        long ticks = Math.min(currentTick - lastTick, buckets.size());
+        for(long tick = currentTick - ticks + 1; tick <= currentTick; tick++) {
+            Iterator<Entry<T>> iterator = buckets.get(bucketIndex(tick)).iterator();
+            while(iterator.hasNext()) {
+                Entry<T> entry = iterator.next();
+                if(entry.deadlineMillis() > nowMillis) continue;
+                expired.add(entry.item());
+                iterator.remove();
+                size--;
+            }
+        }
+        lastTick = currentTick;
+        return expired;
+    }
+
+    // 보관 중인 작업 모두 삭제
+    public synchronized void clear() {
+        buckets.forEach(List::clear);
+        size = 0;
+    }
+
+    // 보관 중인 작업 수
+    public synchronized int size() {
+        return size;
+    }
+
+    private int bucketIndex(long tick) {
+        return (int) (tick % buckets.size());
+    }
+
+    private record Entry<T>(long deadlineMillis, T item) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.mefi.backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 요청 스레드와 분리하여 처리할 비동기 작업의 스레드 풀 설정 클래스
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${noti.dispatch.pool-size:4}")
+    private int notiDispatchPoolSize; // 알림 전송 스레드 수
+
+    @Value("${noti.dispatch.queue-capacity:1000}")
+    private int notiDispatchQueueCapacity; // 알림 전송 대기열 최대 크기
+
+    /**
+     * 연결별 SSE 전송 대기열을 비우는 고정 크기 스레드 풀
+     * 대기열이 가득 차면 작업을 거절하며, 해당 연결의 다음 알림 등록 시 다시 전송을 시도한다
+     * @return
+     */
+    @Bean
+    public ThreadPoolTaskExecutor notiDispatchExecutor(MeterRegistry meterRegistry){
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notiDispatchPoolSize);
+        executor.setMaxPoolSize(notiDispatchPoolSize);
+        executor.setQueueCapacity(notiDispatchQueueCapacity);
+        executor.setThreadNamePrefix("noti-dispatch-");
+
+        // 대기열 크기 지표 등록
+        Gauge.builder("noti.dispatch.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("전송 대기 중인 알림 작업 수")
+                .register(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 묶음 사이에 쉬면서 오래 실행되는 유지보수 작업(알림 아카이브 등)을 실행하는 단일 스레드
+     * 예약 작업 스레드에서 바로 실행하면 하트비트, 아웃박스 조회 같은 다른 예약 작업이 그동안 멈추므로 분리한다
+     * @return
+     */
+    @Bean
+    public ExecutorService maintenanceExecutor(){
+        return Executors.newSingleThreadExecutor(new CustomizableThreadFactory("maintenance-"));
+    }
+}
@@ -10,7 +10,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name ="conference")
+@Table(name ="conference", indexes = {
+        @Index(name = "idx_conference_team_call_start", columnList = "team_id, call_start"),
+        @Index(name = "idx_conference_status_call_start", columnList = "status, call_start"),
+        @Index(name = "idx_conference_status_call_end", columnList = "status, call_end")
+})
 @Getter
 @NoArgsConstructor
 public class Conference {
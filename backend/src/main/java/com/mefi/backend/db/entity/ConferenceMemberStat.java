@@ -0,0 +1,52 @@
+package com.mefi.backend.db.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 팀원별 주간 회의 집계
+ * 회의로 등록된 개인 일정을 가진 팀원만 집계하며, 팀별 주간 조회와 유저별 조회를 모두 인덱스로 처리한다
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "conference_member_stat",
+        uniqueConstraints = @UniqueConstraint(name = "uk_conference_member_stat", columnNames = {"team_id", "week_start", "user_id"}),
+        indexes = @Index(name = "idx_conference_member_stat_user", columnList = "user_id, week_start"))
+public class ConferenceMemberStat {
+
+    // 식별ID
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 생성을 DB에 위임하는 전략
+    private Long id;
+
+    // 팀 식별 ID
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    // 주 시작일 (월요일)
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    // 유저 식별 ID
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 취소되지 않은 회의 수
+    @Column(name = "scheduled_count", nullable = false)
+    private Integer scheduledCount;
+
+    // 취소되지 않은 회의 시간 (분)
+    @Column(name = "scheduled_minutes", nullable = false)
+    private Long scheduledMinutes;
+
+    // 종료된 회의 수
+    @Column(name = "done_count", nullable = false)
+    private Integer doneCount;
+
+    // 종료된 회의 시간 (분)
+    @Column(name = "done_minutes", nullable = false)
+    private Long doneMinutes;
+}
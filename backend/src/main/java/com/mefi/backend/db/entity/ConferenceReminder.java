@@ -0,0 +1,50 @@
+package com.mefi.backend.db.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회의 시작 전 팀원들에게 보낼 알림 예약
+ * 전송 시각이 된 예약은 여러 서버 중 한 서버가 잠금을 걸어 가져가고, 전송 후 전송 시간을 기록한다
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "conference_reminder", indexes = {
+        @Index(name = "idx_conference_reminder_due", columnList = "sent_time, due_time"),
+        @Index(name = "idx_conference_reminder_conference", columnList = "conference_id")
+})
+public class ConferenceReminder {
+
+    // 식별ID
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 생성을 DB에 위임하는 전략
+    private Long id;
+
+    // 회의와 연관관계
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "conference_id", nullable = false)
+    private Conference conference;
+
+    // 회의 시작 몇 분 전에 보낼지
+    @Column(name = "offset_minutes", nullable = false)
+    private Integer offsetMinutes;
+
+    // 전송 예정 시간
+    @Column(name = "due_time", nullable = false)
+    private LocalDateTime dueTime;
+
+    // 전송 시간, 아직 전송하지 않았다면 null
+    @Column(name = "sent_time")
+    private LocalDateTime sentTime;
+
+    @Builder
+    public ConferenceReminder(Conference conference, Integer offsetMinutes, LocalDateTime dueTime) {
+        this.conference = conference;
+        this.offsetMinutes = offsetMinutes;
+        this.dueTime = dueTime;
+    }
+}
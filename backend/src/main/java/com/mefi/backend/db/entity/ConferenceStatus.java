@@ -1,5 +1,5 @@
 package com.mefi.backend.db.entity;
 
 public enum ConferenceStatus {
-    TODO, DONE, CANCELED
+    TODO, IN_PROGRESS, DONE, CANCELED
 }
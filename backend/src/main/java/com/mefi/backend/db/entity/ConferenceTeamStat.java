@@ -0,0 +1,50 @@
+package com.mefi.backend.db.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 팀별 주간 회의 집계
+ * 회의 생성, 수정, 종료, 취소 시 해당 회의가 속한 주의 값만 증감하고, 통계 조회는 이 테이블만 읽는다
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "conference_team_stat", uniqueConstraints = @UniqueConstraint(name = "uk_conference_team_stat", columnNames = {"team_id", "week_start"}))
+public class ConferenceTeamStat {
+
+    // 식별ID
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 생성을 DB에 위임하는 전략
+    private Long id;
+
+    // 팀 식별 ID
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    // 주 시작일 (월요일)
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    // 취소되지 않은 회의 수
+    @Column(name = "scheduled_count", nullable = false)
+    private Integer scheduledCount;
+
+    // 취소되지 않은 회의 시간 (분)
+    @Column(name = "scheduled_minutes", nullable = false)
+    private Long scheduledMinutes;
+
+    // 종료된 회의 수
+    @Column(name = "done_count", nullable = false)
+    private Integer doneCount;
+
+    // 종료된 회의 시간 (분)
+    @Column(name = "done_minutes", nullable = false)
+    private Long doneMinutes;
+
+    // 취소된 회의 수
+    @Column(name = "canceled_count", nullable = false)
+    private Integer canceledCount;
+}
@@ -10,7 +10,12 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_user_event", columnList = "user_id, event_id"),
+        @Index(name = "idx_notification_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_notification_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_notification_status_created", columnList = "status, created_time")
+})
 public class Noti {
 
     // 알림식별ID
@@ -34,18 +39,36 @@ public class Noti {
     // 발송자 이름
     private String sender;
 
+    // 시간 순으로 증가하는 이벤트 ID, SSE 이벤트 ID와 재전송 기준으로 사용
+    @Column(name = "event_id")
+    private Long eventId;
+
+    // 실시간 전송 병합 주제, 같은 주제의 알림은 전송만 하나로 합치며 DB에는 저장하지 않음
+    @Transient
+    private String topic;
 
     @Builder
-    public Noti(String message, Boolean status, LocalDateTime createdTime, User user, String sender){
+    public Noti(String message, Boolean status, LocalDateTime createdTime, User user, String sender, Long eventId){
         this.message = message;
         this.status = status;
         this.createdTime = createdTime;
         this.user = user;
         this.sender = sender;
+        this.eventId = eventId;
     }
 
     public void read(){
         this.status = true;
     }
 
+    // JDBC 일괄 저장 후 DB에서 발급된 식별 ID 반영
+    public void assignId(Long id){
+        this.id = id;
+    }
+
+    // 실시간 전송 병합 주제 지정
+    public void assignTopic(String topic){
+        this.topic = topic;
+    }
+
 }
@@ -0,0 +1,46 @@
+package com.mefi.backend.db.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 읽은 알림을 옮겨두는 아카이브
+ * 알림 테이블을 작게 유지하기 위해 사용되며, 원본 알림 식별 ID를 그대로 사용한다
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "notification_archive", indexes = @Index(name = "idx_notification_archive_user", columnList = "user_id, id"))
+public class NotiArchive {
+
+    // 원본 알림 식별ID
+    @Id
+    private Long id;
+
+    // 메세지
+    private String message;
+
+    // 읽음여부
+    private Boolean status;
+
+    // 생성시간
+    private LocalDateTime createdTime;
+
+    // 수신자 ID
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 발송자 이름
+    private String sender;
+
+    // 이벤트 ID
+    @Column(name = "event_id")
+    private Long eventId;
+
+    // 아카이브 이동 시간
+    @Column(name = "archived_time", nullable = false)
+    private LocalDateTime archivedTime;
+}
@@ -0,0 +1,42 @@
+package com.mefi.backend.db.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다른 서버 노드로 알림을 전달하기 위한 아웃박스
+ * 각 노드는 식별 ID 순으로 새 행을 조회하여 자신에게 연결된 유저에게 알림을 전송한다
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "notification_outbox", indexes = @Index(name = "idx_notification_outbox_created_time", columnList = "created_time"))
+public class NotiOutbox {
+
+    // 식별ID
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 생성을 DB에 위임하는 전략
+    private Long id;
+
+    // 발행한 노드 ID
+    @Column(name = "node_id", length = 36, nullable = false)
+    private String nodeId;
+
+    // 수신자 ID
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 알림 ID, 읽지 않은 알림 개수 변경만 알리는 행이라면 null
+    @Column(name = "noti_id")
+    private Long notiId;
+
+    // 실시간 전송 병합 주제, 다른 노드에서도 같은 주제의 알림 전송을 합치기 위해 전달
+    @Column(name = "topic", length = 50)
+    private String topic;
+
+    // 생성시간
+    @Column(name = "created_time", nullable = false)
+    private LocalDateTime createdTime;
+}
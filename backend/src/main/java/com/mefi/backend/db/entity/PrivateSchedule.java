@@ -8,7 +8,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "private_schedule")
+@Table(name = "private_schedule", indexes = {
+        @Index(name = "idx_private_schedule_user_started", columnList = "user_id, started_time"),
+        @Index(name = "idx_private_schedule_user_end", columnList = "user_id, end_time"),
+        @Index(name = "idx_private_schedule_conference", columnList = "conference_id")
+})
 @Getter
 @NoArgsConstructor
 public class PrivateSchedule {
@@ -36,8 +40,13 @@ public class PrivateSchedule {
     @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
+    // 회의와 연관관계, 회의로 등록된 일정만 값을 가진다
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "conference_id")
+    private Conference conference;
+
     @Builder
-    public PrivateSchedule(LocalDateTime startedTime, LocalDateTime endTime, ScheduleType type, String summary, String description, User user){
+    public PrivateSchedule(LocalDateTime startedTime, LocalDateTime endTime, ScheduleType type, String summary, String description, User user, Conference conference){
 
         this.startedTime = startedTime;
         this.endTime = endTime;
@@ -45,6 +54,7 @@ public class PrivateSchedule {
         this.summary = summary;
         this.description = description;
         this.user = user;
+        this.conference = conference;
     }
 
     public void changeDetail(String summary, String description, LocalDateTime startedTime, LocalDateTime endTime) {
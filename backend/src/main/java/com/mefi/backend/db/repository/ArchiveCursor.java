@@ -0,0 +1,18 @@
+package com.mefi.backend.db.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 아카이브 대상 알림의 생성 시간과 식별 ID, 다음 묶음 조회의 커서로 사용
+@Getter
+@AllArgsConstructor
+public class ArchiveCursor {
+
+    // 알림 식별 ID
+    private Long id;
+
+    // 생성시간
+    private LocalDateTime createdTime;
+}
@@ -0,0 +1,22 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.db.entity.Noti;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 재전송을 위해 이벤트 캐시에 보관되는 알림
+@Getter
+@AllArgsConstructor
+public class CachedNoti {
+
+    // 시간 순으로 증가하는 이벤트 ID
+    private long eventId;
+
+    // 알림
+    private Noti noti;
+
+    // 캐시 저장 시간
+    private LocalDateTime cachedTime;
+}
@@ -0,0 +1,20 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.api.response.ConferenceDetailResDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회의 상세 정보와 조회한 유저의 팀원 여부를 함께 담은 조회 결과
+@Getter
+@AllArgsConstructor
+public class ConferenceDetail {
+
+    // 회의를 진행하는 팀 식별 ID
+    private Long teamId;
+
+    // 조회한 유저가 해당 팀의 팀원인지 여부
+    private boolean member;
+
+    // 회의 상세 정보와 파일 이름 목록
+    private ConferenceDetailResDto detail;
+}
@@ -0,0 +1,81 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.api.response.ConferenceDetailResDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회의별 상세 정보 캐시
+ * 회의 시작 직전 팀원들이 한꺼번에 상세 페이지를 열어도 DB에는 보관 시간마다 한 번만 조회하고,
+ * 회의 수정, 취소, 파일 업로드/삭제 시 해당 회의의 캐시를 삭제한다
+ * 팀원 여부는 유저마다 다르므로 캐시하지 않고 조회할 때마다 확인한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConferenceDetailCache {
+
+    private final ConferenceRepository conferenceRepository;
+    private final TeamUserRepository teamUserRepository;
+    private final ConcurrentHashMap<Long, CachedDetail> caches = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong(); // 캐시 삭제 횟수, 조회 중에 삭제된 경우 조회 결과를 저장하지 않는다
+
+    @Value("${conference.detail-cache.ttl-seconds:30}")
+    private long ttlSeconds; // 캐시 보관 시간
+
+    // 회의 상세 정보와 유저의 팀원 여부 조회, 회의가 없으면 null 반환
+    // 캐시에 없다면 회의 정보, 팀원 여부, 파일 목록을 한 번에 조회하여 적재
+    public ConferenceDetail find(Long userId, Long conferenceId) {
+        CachedDetail cached = caches.get(conferenceId);
+        if(cached != null && cached.loadedTime().isAfter(LocalDateTime.now().minusSeconds(ttlSeconds))) {
+            boolean member = teamUserRepository.isMember(userId, cached.teamId()) > 0;
+            return new ConferenceDetail(cached.teamId(), member, cached.detail());
+        }
+
+        long stamp = invalidations.get();
+        ConferenceDetail loaded = conferenceRepository.findDetail(userId, conferenceId);
+        if(loaded == null) return null;
+
+        // 조회하는 사이 캐시가 삭제되었다면 오래된 결과일 수 있으므로 저장하지 않음
+        if(invalidations.get() == stamp) {
+            caches.put(conferenceId, new CachedDetail(loaded.getTeamId(), loaded.getDetail(), LocalDateTime.now()));
+        }
+        return loaded;
+    }
+
+    // 회의 정보 변경 시 캐시 삭제, 트랜잭션이 끝난 뒤에도 한 번 더 삭제하여 커밋 전에 다시 불러온 캐시가 남지 않도록 한다
+    public void invalidate(Long conferenceId) {
+        evict(conferenceId);
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(conferenceId);
+                }
+            });
+        }
+    }
+
+    // 매분마다 보관 시간이 지난 캐시 삭제
+    @Scheduled(cron = "0 * * * * ?")
+    protected void deleteExpired() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusSeconds(ttlSeconds);
+        caches.values().removeIf(cached -> !cached.loadedTime().isAfter(expiredBefore));
+    }
+
+    private void evict(Long conferenceId) {
+        invalidations.incrementAndGet();
+        caches.remove(conferenceId);
+    }
+
+    // 유저와 무관한 회의 상세 정보와 적재 시간
+    private record CachedDetail(Long teamId, ConferenceDetailResDto detail, LocalDateTime loadedTime) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.db.entity.ConferenceReminder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ConferenceReminderRepository extends JpaRepository<ConferenceReminder, Long>, ConferenceReminderRepositoryCustom {
+
+    // 주어진 시간 전에 전송할 예약 시각 조회, (sent_time, due_time) 인덱스 범위 조회
+    @Query("SELECT DISTINCT r.dueTime FROM ConferenceReminder r WHERE r.sentTime IS NULL AND r.dueTime < :until")
+    List<LocalDateTime> findDueTimesBefore(@Param("until") LocalDateTime until);
+
+    // 회의의 알림 예약 존재 여부
+    boolean existsByConferenceId(Long conferenceId);
+
+    // 회의의 알림 예약 일괄 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ConferenceReminder r WHERE r.conference.id = :conferenceId")
+    int deleteByConferenceId(@Param("conferenceId") Long conferenceId);
+}
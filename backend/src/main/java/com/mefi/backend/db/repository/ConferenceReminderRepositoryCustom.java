@@ -0,0 +1,22 @@
+package com.mefi.backend.db.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ConferenceReminderRepositoryCustom {
+
+    // 회의 시작 몇 분 전마다 알림 예약을 한 번에 저장
+    void saveAllInBatch(Long conferenceId, LocalDateTime callStart, List<Integer> offsetMinutes);
+
+    // 회의 시작 시간이 바뀌면 예약 시각을 한 번에 다시 계산하고 다시 전송 대상으로 변경, 예약 시각이 실제로 바뀐 행 수 반환
+    int retime(Long conferenceId, LocalDateTime callStart);
+
+    // 전송 시각이 된 예약의 회의 식별 ID를 잠금을 걸어 최대 size개 조회, 다른 서버가 잠근 행은 건너뛴다
+    List<ReminderClaim> claimDue(LocalDateTime now, int size);
+
+    // 예약을 전송 완료로 변경
+    int markSent(List<Long> reminderIds, LocalDateTime sentTime);
+
+    // 주어진 시간 이전에 전송된 예약을 최대 limit개 삭제
+    int deleteSentBefore(LocalDateTime time, int limit);
+}
@@ -0,0 +1,75 @@
+package com.mefi.backend.db.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ConferenceReminderRepositoryImpl implements ConferenceReminderRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAllInBatch(Long conferenceId, LocalDateTime callStart, List<Integer> offsetMinutes) {
+        if(offsetMinutes.isEmpty()) return;
+
+        String sql = "INSERT INTO conference_reminder (conference_id, offset_minutes, due_time) VALUES (?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                int offset = offsetMinutes.get(i);
+                ps.setLong(1, conferenceId);
+                ps.setInt(2, offset);
+                ps.setTimestamp(3, Timestamp.valueOf(callStart.minusMinutes(offset)));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return offsetMinutes.size();
+            }
+        });
+    }
+
+    @Override
+    public int retime(Long conferenceId, LocalDateTime callStart) {
+        // 예약마다 회의 시작 몇 분 전인지 보관하고 있으므로 한 번의 UPDATE로 다시 계산
+        // 예약 시각이 그대로인 행은 건드리지 않아 이미 보낸 알림을 다시 보내지 않는다
+        String sql = "UPDATE conference_reminder SET due_time = TIMESTAMPADD(MINUTE, -offset_minutes, ?), sent_time = NULL " +
+                "WHERE conference_id = ? AND due_time <> TIMESTAMPADD(MINUTE, -offset_minutes, ?)";
+        Timestamp start = Timestamp.valueOf(callStart);
+        return jdbcTemplate.update(sql, start, conferenceId, start);
+    }
+
+    @Override
+    public List<ReminderClaim> claimDue(LocalDateTime now, int size) {
+        // 트랜잭션이 끝날 때까지 행을 잠그고, 다른 서버가 잠근 행은 기다리지 않고 건너뛴다
+        String sql = "SELECT id, conference_id FROM conference_reminder " +
+                "WHERE sent_time IS NULL AND due_time <= ? ORDER BY due_time LIMIT ? FOR UPDATE SKIP LOCKED";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ReminderClaim(rs.getLong("id"), rs.getLong("conference_id")),
+                Timestamp.valueOf(now), size);
+    }
+
+    @Override
+    public int markSent(List<Long> reminderIds, LocalDateTime sentTime) {
+        if(reminderIds.isEmpty()) return 0;
+
+        String in = String.join(", ", Collections.nCopies(reminderIds.size(), "?"));
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(sentTime));
+        params.addAll(reminderIds);
+        return jdbcTemplate.update("UPDATE conference_reminder SET sent_time = ? WHERE id IN (" + in + ")", params.toArray());
+    }
+
+    @Override
+    public int deleteSentBefore(LocalDateTime time, int limit) {
+        return jdbcTemplate.update("DELETE FROM conference_reminder WHERE sent_time < ? LIMIT ?", Timestamp.valueOf(time), limit);
+    }
+}
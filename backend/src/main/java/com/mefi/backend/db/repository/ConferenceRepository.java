@@ -1,22 +1,72 @@
 package com.mefi.backend.db.repository;
 
-import com.mefi.backend.api.response.ConferenceResDto;
 import com.mefi.backend.db.entity.Conference;
+import com.mefi.backend.db.entity.ConferenceStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import java.util.Optional;
 
-public interface ConferenceRepository extends JpaRepository<Conference, Long> {
-
-    @Query("select c from Conference c inner join c.team t on t.id=:teamId where c.callStart >= :start and c.callEnd <= :end")
-    List<ConferenceResDto> findAllByCallTime(@Param("teamId") Long teamId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+public interface ConferenceRepository extends JpaRepository<Conference, Long>, ConferenceRepositoryCustom {
 
     // 회의 식별 ID로 회의 정보 조회
     Optional<Conference> findById(Long conferencId);
 
-}
\ No newline at end of file
+    // 회의 상태를 변경하기 위해 잠금을 걸어 조회, 상태 자동 전환과 동시에 변경되지 않도록 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Conference c WHERE c.id = :id")
+    Optional<Conference> findByIdForUpdate(@Param("id") Long conferenceId);
+
+    // 여러 회의를 팀과 함께 조회
+    @Query("SELECT c FROM Conference c JOIN FETCH c.team WHERE c.id IN :ids")
+    List<Conference> findAllWithTeamByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 주어진 시간 전에 시작하는 예정된 회의 조회, (status, call_start) 인덱스 범위 조회
+    @Query("SELECT new com.mefi.backend.db.repository.ConferenceTime(c.id, c.callStart, c.callEnd) " +
+            "FROM Conference c WHERE c.status = :status AND c.callStart < :until")
+    List<ConferenceTime> findTimesStartingBefore(@Param("status") ConferenceStatus status, @Param("until") LocalDateTime until);
+
+    // 주어진 시간 전에 끝나는 진행 중인 회의 조회, (status, call_end) 인덱스 범위 조회
+    @Query("SELECT new com.mefi.backend.db.repository.ConferenceTime(c.id, c.callStart, c.callEnd) " +
+            "FROM Conference c WHERE c.status = :status AND c.callEnd < :until")
+    List<ConferenceTime> findTimesEndingBefore(@Param("status") ConferenceStatus status, @Param("until") LocalDateTime until);
+
+    // 시작 시간이 지난 예정된 회의를 진행 중으로 일괄 변경
+    // 시간 조건을 다시 확인하므로 예약 이후 시간이 변경된 회의는 변경되지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Conference c SET c.status = com.mefi.backend.db.entity.ConferenceStatus.IN_PROGRESS " +
+            "WHERE c.id IN :ids " +
+            "AND c.status = com.mefi.backend.db.entity.ConferenceStatus.TODO " +
+            "AND c.callStart <= :now AND c.callEnd > :now")
+    int startConferences(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 종료 시간이 지난 예정되거나 진행 중인 회의를 종료로 일괄 변경
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Conference c SET c.status = com.mefi.backend.db.entity.ConferenceStatus.DONE " +
+            "WHERE c.id IN :ids " +
+            "AND c.status IN (com.mefi.backend.db.entity.ConferenceStatus.TODO, com.mefi.backend.db.entity.ConferenceStatus.IN_PROGRESS) " +
+            "AND c.callEnd <= :now")
+    int finishConferences(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 서버가 멈춰 있는 동안 시작 시간이 지난 예정된 회의를 진행 중으로 일괄 변경
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Conference c SET c.status = com.mefi.backend.db.entity.ConferenceStatus.IN_PROGRESS " +
+            "WHERE c.status = com.mefi.backend.db.entity.ConferenceStatus.TODO " +
+            "AND c.callStart <= :now AND c.callEnd > :now")
+    int startOverdueConferences(@Param("now") LocalDateTime now);
+
+    // 종료 시간이 지난 예정되거나 진행 중인 회의 ID를 종료 시간 순으로 조회, (status, call_end) 인덱스 범위 조회
+    @Query("SELECT c.id FROM Conference c " +
+            "WHERE c.status IN (com.mefi.backend.db.entity.ConferenceStatus.TODO, com.mefi.backend.db.entity.ConferenceStatus.IN_PROGRESS) " +
+            "AND c.callEnd <= :now ORDER BY c.callEnd")
+    List<Long> findFinishableIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
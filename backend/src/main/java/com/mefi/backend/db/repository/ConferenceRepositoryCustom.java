@@ -0,0 +1,17 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.api.response.ConferenceResDto;
+import com.mefi.backend.db.entity.ConferenceStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ConferenceRepositoryCustom {
+
+    // 기간 내 팀 회의 이력을 (시작 시간, ID) 커서 이전부터 최신순으로 최대 size개 조회, 커서가 없으면 가장 최근 회의부터 조회
+    List<ConferenceResDto> findHistoryBefore(Long teamId, LocalDateTime start, LocalDateTime end, ConferenceStatus status,
+                                             LocalDateTime cursorTime, Long cursorId, int size);
+
+    // 회의 정보, 유저의 팀원 여부, 파일 이름 목록을 한 번에 조회, 회의가 없으면 null 반환
+    ConferenceDetail findDetail(Long userId, Long conferenceId);
+}
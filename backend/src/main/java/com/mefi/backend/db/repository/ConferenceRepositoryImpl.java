@@ -0,0 +1,91 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.api.response.ConferenceDetailResDto;
+import com.mefi.backend.api.response.ConferenceResDto;
+import com.mefi.backend.api.response.QConferenceResDto;
+import com.mefi.backend.db.entity.ConferenceStatus;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mefi.backend.db.entity.QConference.conference;
+import static com.mefi.backend.db.entity.QMeetingFile.meetingFile;
+import static com.mefi.backend.db.entity.QUserTeam.userTeam;
+
+public class ConferenceRepositoryImpl implements ConferenceRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public ConferenceRepositoryImpl(EntityManager em){
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    @Override
+    public List<ConferenceResDto> findHistoryBefore(Long teamId, LocalDateTime start, LocalDateTime end, ConferenceStatus status,
+                                                    LocalDateTime cursorTime, Long cursorId, int size) {
+        // (team_id, call_start) 인덱스 범위 조회, 필요한 컬럼만 DTO로 조회하고 OFFSET 없이 커서 이전만 읽는다
+        return queryFactory
+                .select(new QConferenceResDto(conference.id, conference.callStart, conference.callEnd, conference.title, conference.status))
+                .from(conference)
+                .where(conference.team.id.eq(teamId),
+                        conference.callStart.goe(start),
+                        conference.callStart.loe(end),
+                        conference.callEnd.loe(end),
+                        statusEq(status),
+                        cursorBefore(cursorTime, cursorId))
+                .orderBy(conference.callStart.desc(), conference.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public ConferenceDetail findDetail(Long userId, Long conferenceId) {
+        // 파일 수만큼 행이 반환되며, 회의 정보와 팀원 여부는 모든 행에 동일하게 담긴다
+        List<Tuple> rows = queryFactory
+                .select(conference.title, conference.description, conference.callStart, conference.callEnd,
+                        conference.thumbnailUrl, conference.team.id,
+                        JPAExpressions.select(userTeam.count())
+                                .from(userTeam)
+                                .where(userTeam.user.id.eq(userId), userTeam.team.id.eq(conference.team.id)),
+                        meetingFile.fileName)
+                .from(conference)
+                .leftJoin(conference.meetingFiles, meetingFile)
+                .where(conference.id.eq(conferenceId))
+                .orderBy(meetingFile.id.asc())
+                .fetch();
+        if(rows.isEmpty()) return null;
+
+        // 파일이 없는 회의는 파일 이름이 null인 한 행만 반환된다
+        List<String> fileNames = new ArrayList<>();
+        for(Tuple row : rows) {
+            String fileName = row.get(meetingFile.fileName);
+            if(fileName != null) fileNames.add(fileName);
+        }
+
+        Tuple first = rows.get(0);
+        Long memberCount = first.get(6, Long.class);
+        ConferenceDetailResDto detail = new ConferenceDetailResDto(
+                first.get(conference.title), first.get(conference.description),
+                first.get(conference.callStart), first.get(conference.callEnd),
+                first.get(conference.thumbnailUrl), fileNames);
+        return new ConferenceDetail(first.get(conference.team.id), memberCount != null && memberCount > 0, detail);
+    }
+
+    // 회의 상태 조건, 상태를 지정하지 않으면 조건 없음
+    private BooleanExpression statusEq(ConferenceStatus status) {
+        return status == null ? null : conference.status.eq(status);
+    }
+
+    // 커서 조건, 시작 시간이 같은 회의는 ID로 구분한다, 첫 페이지인 경우 조건 없음
+    private BooleanExpression cursorBefore(LocalDateTime cursorTime, Long cursorId) {
+        if(cursorTime == null || cursorId == null) return null;
+        return conference.callStart.lt(cursorTime)
+                .or(conference.callStart.eq(cursorTime).and(conference.id.lt(cursorId)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.api.response.ConferenceMemberStatResDto;
+import com.mefi.backend.api.response.ConferenceTeamStatResDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 팀별, 팀원별 주간 회의 집계 테이블
+ * 회의의 현재 상태에 따른 값을 sign만큼 더하는 방식으로 갱신한다
+ * 상태가 바뀌기 전에 -1로 빼고 바뀐 뒤 +1로 더하면 어떤 상태 전환이든 집계가 맞게 유지된다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConferenceStatRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String WEEK_START = "DATE_SUB(DATE(c.call_start), INTERVAL WEEKDAY(c.call_start) DAY)";
+    private static final String MINUTES = "TIMESTAMPDIFF(MINUTE, c.call_start, c.call_end)";
+    private static final String SCHEDULED = "(c.status <> 'CANCELED')";
+    private static final String DONE = "(c.status = 'DONE')";
+    private static final String CANCELED = "(c.status = 'CANCELED')";
+
+    // 회의들의 현재 상태 값을 팀별, 팀원별 집계에 sign만큼 더함
+    public void addConferences(List<Long> conferenceIds, int sign) {
+        if(conferenceIds.isEmpty()) return;
+
+        String where = "c.id IN (" + String.join(", ", Collections.nCopies(conferenceIds.size(), "?")) + ")";
+        Object[] params = conferenceIds.toArray();
+        upsertTeam(sign, where, params);
+        upsertMember(sign, where, params);
+    }
+
+    // 회의로 등록된 개인 일정 하나의 현재 상태 값을 팀원별 집계에 sign만큼 더함
+    public void addSchedule(Long scheduleId, int sign) {
+        upsertMember(sign, "ps.id = ?", scheduleId);
+    }
+
+    // 팀의 집계를 삭제한 뒤 원본 회의와 개인 일정에서 다시 계산, (team_id, call_start) 인덱스 범위 조회
+    public void rebuildTeam(Long teamId) {
+        jdbcTemplate.update("DELETE FROM conference_team_stat WHERE team_id = ?", teamId);
+        jdbcTemplate.update("DELETE FROM conference_member_stat WHERE team_id = ?", teamId);
+        upsertTeam(1, "c.team_id = ?", teamId);
+        upsertMember(1, "c.team_id = ?", teamId);
+    }
+
+    // MySQL 이름 잠금을 얻은 경우에만 작업 실행, 여러 서버 중 한 곳에서만 실행되도록 한다
+    // 이름 잠금은 연결 단위이므로 같은 연결로 얻고 풀며, 작업이 끝날 때까지 연결 하나를 붙잡는다
+    // 다른 서버가 잠금을 가지고 있다면 기다리지 않고 false 반환
+    public boolean runWithLock(String lockName, Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try(PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, 0)")){
+                ps.setString(1, lockName);
+                try(ResultSet rs = ps.executeQuery()){
+                    if(!rs.next() || rs.getInt(1) != 1) return false;
+                }
+            }
+
+            try{
+                task.run();
+                return true;
+            }finally{
+                try(PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")){
+                    ps.setString(1, lockName);
+                    ps.executeQuery().close();
+                }
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    // 커서 이후의 팀 식별 ID를 최대 size개 조회
+    public List<Long> findTeamIdsAfter(long cursor, int size) {
+        return jdbcTemplate.queryForList("SELECT id FROM team WHERE id > ? ORDER BY id LIMIT ?", Long.class, cursor, size);
+    }
+
+    // 팀의 [fromWeek, toWeek] 주간 집계 조회, 유니크 키 범위 조회
+    public List<ConferenceTeamStatResDto> findTeamStats(Long teamId, LocalDate fromWeek, LocalDate toWeek) {
+        String sql = "SELECT week_start, scheduled_count, scheduled_minutes, done_count, done_minutes, canceled_count " +
+                "FROM conference_team_stat WHERE team_id = ? AND week_start BETWEEN ? AND ? ORDER BY week_start";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ConferenceTeamStatResDto(
+                rs.getDate("week_start").toLocalDate(),
+                rs.getInt("scheduled_count"), rs.getLong("scheduled_minutes"),
+                rs.getInt("done_count"), rs.getLong("done_minutes"),
+                rs.getInt("canceled_count")), teamId, Date.valueOf(fromWeek), Date.valueOf(toWeek));
+    }
+
+    // 팀원들의 한 주 집계 조회, 유니크 키 범위 조회
+    public List<ConferenceMemberStatResDto> findMemberStats(Long teamId, LocalDate week) {
+        String sql = "SELECT s.user_id, u.name, s.week_start, s.scheduled_count, s.scheduled_minutes, s.done_count, s.done_minutes " +
+                "FROM conference_member_stat s JOIN `user` u ON u.id = s.user_id " +
+                "WHERE s.team_id = ? AND s.week_start = ? ORDER BY s.scheduled_minutes DESC";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ConferenceMemberStatResDto(
+                rs.getLong("user_id"), rs.getString("name"),
+                rs.getDate("week_start").toLocalDate(),
+                rs.getInt("scheduled_count"), rs.getLong("scheduled_minutes"),
+                rs.getInt("done_count"), rs.getLong("done_minutes")), teamId, Date.valueOf(week));
+    }
+
+    private void upsertTeam(int sign, String where, Object... params) {
+        // GROUP BY 결과를 파생 테이블로 감싸야 ON DUPLICATE KEY UPDATE에서 집계 값을 참조할 수 있다
+        String sql = "INSERT INTO conference_team_stat (team_id, week_start, scheduled_count, scheduled_minutes, done_count, done_minutes, canceled_count) " +
+                "SELECT * FROM (" +
+                "SELECT c.team_id, " + WEEK_START + " AS week, " +
+                sum(sign, SCHEDULED) + " AS sc, " + sum(sign, SCHEDULED + " * " + MINUTES) + " AS sm, " +
+                sum(sign, DONE) + " AS dc, " + sum(sign, DONE + " * " + MINUTES) + " AS dm, " +
+                sum(sign, CANCELED) + " AS cc " +
+                "FROM conference c WHERE " + where + " GROUP BY c.team_id, week) s " +
+                "ON DUPLICATE KEY UPDATE scheduled_count = scheduled_count + s.sc, scheduled_minutes = scheduled_minutes + s.sm, " +
+                "done_count = done_count + s.dc, done_minutes = done_minutes + s.dm, canceled_count = canceled_count + s.cc";
+        jdbcTemplate.update(sql, params);
+    }
+
+    private void upsertMember(int sign, String where, Object... params) {
+        // 회의로 등록된 개인 일정을 가진 팀원만 집계, 취소된 회의의 일정은 삭제되므로 취소 수는 집계하지 않는다
+        String sql = "INSERT INTO conference_member_stat (team_id, week_start, user_id, scheduled_count, scheduled_minutes, done_count, done_minutes) " +
+                "SELECT * FROM (" +
+                "SELECT c.team_id, " + WEEK_START + " AS week, ps.user_id, " +
+                sum(sign, SCHEDULED) + " AS sc, " + sum(sign, SCHEDULED + " * " + MINUTES) + " AS sm, " +
+                sum(sign, DONE) + " AS dc, " + sum(sign, DONE + " * " + MINUTES) + " AS dm " +
+                "FROM conference c JOIN private_schedule ps ON ps.conference_id = c.id " +
+                "WHERE " + where + " GROUP BY c.team_id, week, ps.user_id) s " +
+                "ON DUPLICATE KEY UPDATE scheduled_count = scheduled_count + s.sc, scheduled_minutes = scheduled_minutes + s.sm, " +
+                "done_count = done_count + s.dc, done_minutes = done_minutes + s.dm";
+        jdbcTemplate.update(sql, params);
+    }
+
+    private String sum(int sign, String expression) {
+        return "SUM(" + sign + " * " + expression + ")";
+    }
+}
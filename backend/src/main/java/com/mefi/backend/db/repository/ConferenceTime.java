@@ -0,0 +1,21 @@
+package com.mefi.backend.db.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 회의 상태 전환 예약을 위해 회의 ID와 시간만 담은 조회 결과
+@Getter
+@AllArgsConstructor
+public class ConferenceTime {
+
+    // 회의 식별 ID
+    private Long id;
+
+    // 회의 시작 시간
+    private LocalDateTime callStart;
+
+    // 회의 종료 시간
+    private LocalDateTime callEnd;
+}
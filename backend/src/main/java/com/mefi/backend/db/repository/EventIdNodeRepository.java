@@ -0,0 +1,52 @@
+package com.mefi.backend.db.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 이벤트 ID 생성기의 노드 ID 임대 테이블
+ * 각 서버는 시작할 때 비어 있거나 임대 시간이 지난 노드 ID를 하나 차지하고 주기적으로 임대 시간을 연장한다
+ * 서버 사이의 시계 차이에 영향을 받지 않도록 임대 시간은 모두 DB 시간으로 계산한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventIdNodeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 노드 ID 하나를 임대하여 반환, 모든 노드 ID가 사용 중이라면 null 반환
+    public Integer claim(String owner, int maxNodeId, long leaseSeconds) {
+        // 임대 시간이 지난 노드 ID 중 가장 작은 값 재사용
+        int reused = jdbcTemplate.update("UPDATE event_id_node SET owner = ?, expires_time = NOW() + INTERVAL ? SECOND " +
+                "WHERE expires_time < NOW() ORDER BY node_id LIMIT 1", owner, leaseSeconds);
+        if(reused == 0){
+            // 아직 사용하지 않은 다음 노드 ID 추가, 다른 서버와 동시에 추가하여 기본 키가 겹치면 다시 시도
+            try{
+                int inserted = jdbcTemplate.update("INSERT INTO event_id_node (node_id, owner, expires_time) " +
+                        "SELECT COALESCE(MAX(node_id), -1) + 1, ?, NOW() + INTERVAL ? SECOND FROM event_id_node " +
+                        "HAVING COALESCE(MAX(node_id), -1) + 1 <= ?", owner, leaseSeconds, maxNodeId);
+                if(inserted == 0) return null;
+            }catch(DuplicateKeyException e){
+                return claim(owner, maxNodeId, leaseSeconds);
+            }
+        }
+
+        List<Integer> nodeIds = jdbcTemplate.queryForList("SELECT node_id FROM event_id_node WHERE owner = ?", Integer.class, owner);
+        return nodeIds.isEmpty() ? null : nodeIds.get(0);
+    }
+
+    // 임대 시간 연장, 이미 다른 서버가 차지했다면 false 반환
+    public boolean renew(int nodeId, String owner, long leaseSeconds) {
+        return jdbcTemplate.update("UPDATE event_id_node SET expires_time = NOW() + INTERVAL ? SECOND WHERE node_id = ? AND owner = ?",
+                leaseSeconds, nodeId, owner) == 1;
+    }
+
+    // 종료 시 임대 해제, 다른 서버가 바로 재사용할 수 있도록 만료 처리
+    public void release(int nodeId, String owner) {
+        jdbcTemplate.update("UPDATE event_id_node SET expires_time = NOW() - INTERVAL 1 SECOND WHERE node_id = ? AND owner = ?", nodeId, owner);
+    }
+}
@@ -0,0 +1,21 @@
+package com.mefi.backend.db.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 여러 팀원의 일정을 한 번에 조회할 때 유저 ID와 시간 구간만 담은 조회 결과
+@Getter
+@AllArgsConstructor
+public class MemberScheduleInterval {
+
+    // 유저 식별 ID
+    private Long userId;
+
+    // 시작 시간
+    private LocalDateTime startedTime;
+
+    // 종료 시간
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,7 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.db.entity.NotiArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotiArchiveRepository extends JpaRepository<NotiArchive, Long>, NotiArchiveRepositoryCustom {
+}
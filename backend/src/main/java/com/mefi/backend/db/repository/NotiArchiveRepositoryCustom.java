@@ -0,0 +1,13 @@
+package com.mefi.backend.db.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotiArchiveRepositoryCustom {
+
+    // 주어진 시간 이전에 생성된 읽은 알림을 커서 이후부터 (생성 시간, 식별 ID) 순으로 최대 size개 조회, 커서가 없으면 처음부터 조회
+    List<ArchiveCursor> findArchivable(LocalDateTime createdBefore, ArchiveCursor cursor, int size);
+
+    // 알림을 아카이브 테이블로 복사한 뒤 알림 테이블에서 삭제, 옮긴 행 수 반환
+    int moveToArchive(List<Long> notiIds, LocalDateTime archivedTime);
+}
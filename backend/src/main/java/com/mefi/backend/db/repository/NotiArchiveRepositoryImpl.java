@@ -0,0 +1,51 @@
+package com.mefi.backend.db.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NotiArchiveRepositoryImpl implements NotiArchiveRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ArchiveCursor> findArchivable(LocalDateTime createdBefore, ArchiveCursor cursor, int size) {
+        // (status, created_time) 인덱스 범위 조회, 인덱스에 식별 ID가 포함되어 있으므로 정렬과 커서 비교도 인덱스에서 처리
+        // 커서 이후부터 읽어 앞서 삭제되어 아직 정리되지 않은 인덱스 항목을 다시 훑지 않는다
+        String sql = "SELECT id, created_time FROM notification WHERE status = true AND created_time < ? " +
+                (cursor == null ? "" : "AND (created_time > ? OR (created_time = ? AND id > ?)) ") +
+                "ORDER BY created_time, id LIMIT ?";
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(createdBefore));
+        if(cursor != null){
+            Timestamp cursorTime = Timestamp.valueOf(cursor.getCreatedTime());
+            params.add(cursorTime);
+            params.add(cursorTime);
+            params.add(cursor.getId());
+        }
+        params.add(size);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ArchiveCursor(rs.getLong("id"), rs.getTimestamp("created_time").toLocalDateTime()), params.toArray());
+    }
+
+    @Override
+    public int moveToArchive(List<Long> notiIds, LocalDateTime archivedTime) {
+        if(notiIds.isEmpty()) return 0;
+
+        // 이전 실행이 중간에 중단되어 이미 복사된 행이 있더라도 다시 실행할 수 있도록 중복은 무시
+        String in = String.join(", ", Collections.nCopies(notiIds.size(), "?"));
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(archivedTime));
+        params.addAll(notiIds);
+        jdbcTemplate.update("INSERT IGNORE INTO notification_archive (id, message, status, created_time, user_id, sender, event_id, archived_time) " +
+                "SELECT id, message, status, created_time, user_id, sender, event_id, ? FROM notification WHERE id IN (" + in + ")", params.toArray());
+
+        // 복사가 끝난 알림 삭제, 그 사이 다시 읽지 않음으로 바뀌는 경우는 없으므로 읽음 여부는 확인하지 않는다
+        return jdbcTemplate.update("DELETE FROM notification WHERE id IN (" + in + ")", notiIds.toArray());
+    }
+}
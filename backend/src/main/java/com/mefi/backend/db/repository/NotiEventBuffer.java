@@ -0,0 +1,81 @@
+package com.mefi.backend.db.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 유저별 최근 알림을 고정 크기로 보관하는 링 버퍼, 이벤트 ID 오름차순으로 저장된다
+class NotiEventBuffer {
+
+    private final CachedNoti[] events;
+    private int head; // 가장 오래된 이벤트 위치
+    private int size; // 보관 중인 이벤트 개수
+
+    NotiEventBuffer(int capacity) {
+        this.events = new CachedNoti[capacity];
+    }
+
+    // 이벤트 추가, 가득 찬 경우 가장 오래된 이벤트를 덮어쓴다
+    synchronized void add(CachedNoti event) {
+        if(size == events.length){
+            // 가장 오래된 이벤트보다 이전 이벤트는 보관하지 않음
+            if(event.getEventId() < get(0).getEventId()) return;
+            events[head] = null;
+            head = (head + 1) % events.length;
+            size--;
+        }
+
+        // 전송 스레드 간 순서가 뒤바뀐 경우를 위해 뒤에서부터 삽입 위치를 찾음, 대부분 바로 끝에 추가된다
+        int index = size;
+        while(index > 0 && get(index - 1).getEventId() > event.getEventId()){
+            set(index, get(index - 1));
+            index--;
+        }
+        set(index, event);
+        size++;
+    }
+
+    // 주어진 이벤트 ID 이후의 만료되지 않은 이벤트 조회
+    synchronized List<CachedNoti> findAfter(long eventId, LocalDateTime expiredBefore) {
+        List<CachedNoti> result = new ArrayList<>();
+        for(int i = lowerBound(eventId); i < size; i++){
+            CachedNoti event = get(i);
+            if(event.getCachedTime().isAfter(expiredBefore)) result.add(event);
+        }
+        return result;
+    }
+
+    // 주어진 이벤트 ID 이후의 이벤트를 빠짐없이 보관하고 있는지 여부
+    synchronized boolean covers(long eventId) {
+        return size > 0 && get(0).getEventId() <= eventId;
+    }
+
+    // 만료된 이벤트 제거 후 남은 이벤트 개수 반환
+    synchronized int evictExpired(LocalDateTime expiredBefore) {
+        while(size > 0 && !get(0).getCachedTime().isAfter(expiredBefore)){
+            events[head] = null;
+            head = (head + 1) % events.length;
+            size--;
+        }
+        return size;
+    }
+
+    // 이벤트 ID가 주어진 값보다 큰 첫 이벤트의 위치를 이진 탐색
+    private int lowerBound(long eventId) {
+        int low = 0, high = size;
+        while(low < high){
+            int mid = (low + high) >>> 1;
+            if(get(mid).getEventId() <= eventId) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private CachedNoti get(int index) {
+        return events[(head + index) % events.length];
+    }
+
+    private void set(int index, CachedNoti event) {
+        events[(head + index) % events.length] = event;
+    }
+}
@@ -0,0 +1,15 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.db.entity.NotiOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface NotiOutboxRepository extends JpaRepository<NotiOutbox, Long>, NotiOutboxRepositoryCustom {
+
+    // 주어진 시간 이전에 기록된 마지막 아웃박스 식별 ID 조회
+    @Query("SELECT COALESCE(MAX(o.id), 0) FROM NotiOutbox o WHERE o.createdTime < :time")
+    Long findMaxIdCreatedBefore(@Param("time") LocalDateTime time);
+}
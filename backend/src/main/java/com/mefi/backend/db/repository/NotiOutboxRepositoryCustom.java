@@ -0,0 +1,24 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.db.entity.Noti;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotiOutboxRepositoryCustom {
+
+    // 수신자별 알림을 하나의 JDBC 배치로 아웃박스에 저장
+    void saveAllInBatch(String nodeId, List<Long> userIds, List<Noti> notis);
+
+    // 읽지 않은 알림 개수가 바뀐 유저를 알림 없는 행으로 아웃박스에 저장
+    void saveUnreadCountChanges(String nodeId, List<Long> userIds);
+
+    // 주어진 식별 ID 이후의 아웃박스 알림을 식별 ID 순으로 조회
+    List<OutboxNoti> findAfter(Long cursor, int size);
+
+    // 주어진 식별 ID의 아웃박스 알림을 식별 ID 순으로 조회, 아직 커밋되지 않은 행은 제외된다
+    List<OutboxNoti> findByIds(List<Long> ids);
+
+    // 주어진 시간 이전에 생성된 아웃박스 행을 최대 limit개 삭제
+    int deleteCreatedBefore(LocalDateTime time, int limit);
+}
@@ -0,0 +1,112 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.db.entity.Noti;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NotiOutboxRepositoryImpl implements NotiOutboxRepositoryCustom {
+
+    // 알림이 삭제된 행은 제외하고, 읽지 않은 알림 개수 변경 행은 알림 없이 조회
+    private static final String SELECT_OUTBOX = "SELECT o.id, o.node_id, o.user_id, o.topic, o.created_time AS outbox_created_time, " +
+            "o.noti_id, n.message, n.status, n.created_time, n.sender, n.event_id " +
+            "FROM notification_outbox o LEFT JOIN notification n ON n.id = o.noti_id " +
+            "WHERE (o.noti_id IS NULL OR n.id IS NOT NULL) ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAllInBatch(String nodeId, List<Long> userIds, List<Noti> notis) {
+        if(notis.isEmpty()) return;
+
+        String sql = "INSERT INTO notification_outbox (node_id, user_id, noti_id, topic, created_time) VALUES (?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, nodeId);
+                ps.setLong(2, userIds.get(i));
+                ps.setLong(3, notis.get(i).getId());
+                ps.setString(4, notis.get(i).getTopic());
+                ps.setTimestamp(5, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return notis.size();
+            }
+        });
+    }
+
+    @Override
+    public void saveUnreadCountChanges(String nodeId, List<Long> userIds) {
+        if(userIds.isEmpty()) return;
+
+        // 알림 없이 수신자만 기록
+        String sql = "INSERT INTO notification_outbox (node_id, user_id, created_time) VALUES (?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, nodeId);
+                ps.setLong(2, userIds.get(i));
+                ps.setTimestamp(3, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return userIds.size();
+            }
+        });
+    }
+
+    @Override
+    public List<OutboxNoti> findAfter(Long cursor, int size) {
+        // 기본 키 범위 조회로 마지막으로 읽은 위치 이후만 조회
+        String sql = SELECT_OUTBOX + "AND o.id > ? ORDER BY o.id LIMIT ?";
+        return jdbcTemplate.query(sql, this::mapOutboxNoti, cursor, size);
+    }
+
+    @Override
+    public List<OutboxNoti> findByIds(List<Long> ids) {
+        if(ids.isEmpty()) return List.of();
+
+        // 기본 키 IN 조회로 빈 번호만 다시 조회
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = SELECT_OUTBOX + "AND o.id IN (" + placeholders + ") ORDER BY o.id";
+        return jdbcTemplate.query(sql, this::mapOutboxNoti, ids.toArray());
+    }
+
+    // 아웃박스 행을 알림과 함께 변환, 읽지 않은 알림 개수 변경 행은 알림 없이 변환
+    private OutboxNoti mapOutboxNoti(ResultSet rs, int rowNum) throws SQLException {
+        LocalDateTime outboxCreatedTime = rs.getTimestamp("outbox_created_time").toLocalDateTime();
+        if(rs.getObject("noti_id") == null){
+            return new OutboxNoti(rs.getLong("id"), rs.getString("node_id"), rs.getLong("user_id"), null, outboxCreatedTime);
+        }
+
+        Noti noti = Noti.builder()
+                .message(rs.getString("message"))
+                .status(rs.getBoolean("status"))
+                .createdTime(rs.getTimestamp("created_time").toLocalDateTime())
+                .sender(rs.getString("sender"))
+                .eventId(rs.getLong("event_id"))
+                .build();
+        noti.assignId(rs.getLong("noti_id"));
+        noti.assignTopic(rs.getString("topic"));
+        return new OutboxNoti(rs.getLong("id"), rs.getString("node_id"), rs.getLong("user_id"), noti, outboxCreatedTime);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime time, int limit) {
+        return jdbcTemplate.update("DELETE FROM notification_outbox WHERE created_time < ? LIMIT ?", Timestamp.valueOf(time), limit);
+    }
+}
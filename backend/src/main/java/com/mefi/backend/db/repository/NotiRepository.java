@@ -2,6 +2,7 @@ package com.mefi.backend.db.repository;
 
 import com.mefi.backend.db.entity.Noti;
 import com.mefi.backend.db.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -20,10 +21,32 @@ public interface NotiRepository extends JpaRepository<Noti, Long>, NotiRepositor
     @Query("update Noti n set n.status=true where n.status=false and n.user=:user")
     int readNotiAllByUser(@Param("user") User user);
 
+    // 유저가 읽지 않은 알림 개수 조회, (user_id, status) 인덱스만으로 처리
+    @Query("SELECT count(n) FROM Noti n WHERE n.user.id = :userId AND n.status = false")
+    long countUnreadByUserId(@Param("userId") Long userId);
+
+    // 유저가 읽지 않은 알림 중 주어진 ID의 알림만 읽음 처리
+    @Modifying(clearAutomatically = true)
+    @Query("update Noti n set n.status=true where n.status=false and n.user.id=:userId and n.id in :ids")
+    int readNotisByIds(@Param("userId") Long userId, @Param("ids") List<Long> ids);
+
+    // 유저가 읽지 않은 알림 중 주어진 이벤트 ID 이하의 알림 모두 읽음 처리, (user_id, event_id) 인덱스 범위 조회
+    @Modifying(clearAutomatically = true)
+    @Query("update Noti n set n.status=true where n.status=false and n.user.id=:userId and n.eventId <= :eventId")
+    int readNotisUntil(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
     // 알림 ID로 조회
     Optional<Noti> findNotiById(Long alarmId);
 
-    // 유저 ID로 읽지 않은 알림 모두 조회
-    List<Noti> findNotiByUserAndStatusIsFalse(User user);
+    // 주어진 이벤트 ID 이후의 알림을 이벤트 ID 순으로 페이지 크기만큼 조회, (user_id, event_id) 인덱스 범위 조회
+    @Query("SELECT n FROM Noti n WHERE n.user.id = :userId AND n.eventId > :eventId ORDER BY n.eventId")
+    List<Noti> findNotisAfter(@Param("userId") Long userId, @Param("eventId") Long eventId, Pageable pageable);
+
+    // 유저의 알림 이벤트 ID를 최신순으로 조회, 재전송 시작 위치를 최근 알림으로 제한할 때 사용
+    @Query("SELECT n.eventId FROM Noti n WHERE n.user.id = :userId AND n.eventId IS NOT NULL ORDER BY n.eventId DESC")
+    List<Long> findRecentEventIds(@Param("userId") Long userId, Pageable pageable);
+
+    // 유저 ID로 읽지 않은 알림 모두 이벤트 ID 순으로 조회
+    List<Noti> findNotiByUserAndStatusIsFalseOrderByEventId(User user);
 
 }
@@ -1,30 +1,75 @@
 package com.mefi.backend.db.repository;
 
+import com.mefi.backend.api.request.NotiFilter;
+import com.mefi.backend.common.sse.BufferedSseEmitter;
 import com.mefi.backend.db.entity.Noti;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public interface NotiRepositoryCustom {
     // SSE Emitter 저장
-    public SseEmitter saveEmitter(String emitterId, SseEmitter emitter);
+    public BufferedSseEmitter saveEmitter(Long userId, String emitterId, BufferedSseEmitter emitter);
 
     // SSE Emitter 삭제
-    public void deleteEmitterById(String emitterId);
+    public void deleteEmitterById(Long userId, String emitterId);
 
     // 특정 유저의 SSE Emitter 모두 삭제
-    public void deleteEmittersByUserId(String userId);
+    public void deleteEmittersByUserId(Long userId);
 
-    // 특정 유저의 EventCache 모두 삭제
-    public void deleteEventCacheByUserId();
+    // 여러 SSE Emitter 한 번에 삭제 후 삭제된 개수 반환
+    public int deleteEmitters(Map<Long, List<String>> emitterIds);
+
+    // 보관 시간이 지난 EventCache 모두 삭제
+    public void deleteExpiredEventCaches();
 
     // 특정 유저의 SSE Emitter 모두 조회
-    public Map<String, SseEmitter> findSseEmittersById(String userId);
+    public Map<String, BufferedSseEmitter> findSseEmittersById(Long userId);
+
+    // 여러 유저의 SSE Emitter 한 번에 조회
+    public Map<Long, Map<String, BufferedSseEmitter>> findSseEmittersByIds(Collection<Long> userIds);
+
+    // 현재 서버가 보유한 SSE Emitter 모두 조회
+    public Map<Long, Map<String, BufferedSseEmitter>> findAllEmitters();
+
+    // 현재 서버가 보유한 SSE Emitter 개수 조회
+    public int countEmitters();
 
-    // 특정 유저의 EventCache 모두 조회
-    public Map<String, Noti> findEventCachesByUserId(String userId);
+    // 현재 서버에 연결된 유저 수 조회
+    public int countConnectedUsers();
+
+    // 특정 유저의 EventCache 중 주어진 이벤트 ID 이후의 알림 조회
+    public List<CachedNoti> findEventCachesAfter(Long userId, long eventId);
+
+    // 특정 유저의 EventCache가 주어진 이벤트 ID 이후의 알림을 모두 보관하고 있는지 확인
+    public boolean isEventCacheCovering(Long userId, long eventId);
 
     // 신규 EventCache 저장
-    public void saveEventCache(String key, Noti noti);
+    public void saveEventCache(Long userId, Noti noti);
+
+    // 캐시된 읽지 않은 알림 개수 조회, 캐시에 없거나 보관 시간이 지났다면 null 반환
+    public Integer findUnreadCount(Long userId);
+
+    // DB에서 읽지 않은 알림 개수 조회 시작을 기록하고 조회 번호 반환
+    public long startUnreadCountLoad(Long userId);
+
+    // 조회를 시작한 뒤 개수가 바뀌지 않은 경우에만 조회한 개수 저장, 저장했다면 true 반환
+    public boolean saveLoadedUnreadCount(Long userId, int count, long loadToken);
+
+    // 캐시된 읽지 않은 알림 개수 증감 후 변경된 개수 반환, 캐시에 없다면 null 반환
+    public Integer increaseUnreadCount(Long userId, int delta);
+
+    // 캐시된 읽지 않은 알림 개수 삭제, 진행 중인 조회도 적재되지 않는다
+    public void deleteUnreadCount(Long userId);
+
+    // 보관 시간이 지난 읽지 않은 알림 개수 캐시 모두 삭제
+    public void deleteExpiredUnreadCounts();
+
+    // 커서 이전의 알림을 최신순으로 최대 size개 조회, 커서가 없으면 가장 최신 알림부터 조회
+    public List<Noti> findNotisBefore(Long userId, Long cursor, NotiFilter filter, int size);
+
+    // 여러 알림을 하나의 JDBC 배치로 저장
+    public void saveAllInBatch(List<Noti> notis);
 
 }
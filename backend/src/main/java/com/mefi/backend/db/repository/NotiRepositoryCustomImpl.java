@@ -1,79 +1,262 @@
 package com.mefi.backend.db.repository;
 
+import com.mefi.backend.api.request.NotiFilter;
+import com.mefi.backend.common.sse.BufferedSseEmitter;
 import com.mefi.backend.db.entity.Noti;
-import lombok.RequiredArgsConstructor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mefi.backend.db.entity.QNoti.noti;
 
 @Repository
-@RequiredArgsConstructor
 @Slf4j
 public class NotiRepositoryCustomImpl implements NotiRepositoryCustom {
 
-    private final ConcurrentHashMap<String, SseEmitter> emitters = new ConcurrentHashMap<>(); // 실시간 알림을 전송하기 위해 서버에서 SSE Emitter 관리
-    private final ConcurrentHashMap<String, Noti> eventCaches = new ConcurrentHashMap<>(); // 네트워크 오류 등으로 인한 알림 유실을 위한 캐시
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory queryFactory;
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<String, BufferedSseEmitter>> emitters = new ConcurrentHashMap<>(); // 실시간 알림을 전송하기 위해 유저별로 SSE Emitter 관리 (여러 탭, 디바이스 고려)
+    private final AtomicInteger emitterCount = new AtomicInteger(); // 현재 서버가 보유한 SSE Emitter 개수
+    private final ConcurrentHashMap<Long, NotiEventBuffer> eventCaches = new ConcurrentHashMap<>(); // 네트워크 오류 등으로 인한 알림 유실을 위한 유저별 캐시
+    private final ConcurrentHashMap<Long, UnreadCount> unreadCounts = new ConcurrentHashMap<>(); // 유저별 읽지 않은 알림 개수 캐시
+    private final AtomicLong unreadCountLoads = new AtomicLong(); // 읽지 않은 알림 개수 조회 번호
+
+    @Value("${noti.event-cache.capacity:50}")
+    private int eventCacheCapacity; // 유저별 최대 캐시 개수
+
+    @Value("${noti.event-cache.ttl-hours:24}")
+    private long eventCacheTtlHours; // 캐시 보관 시간
+
+    @Value("${noti.unread-count.ttl-minutes:10}")
+    private long unreadCountTtlMinutes; // 읽지 않은 알림 개수 캐시 보관 시간, 다른 노드의 읽음 처리는 버스로 전달되며 전달되지 못한 경우의 오차를 이 시간 안으로 제한
+
+    // EntityManager 인스턴스를 매개변수로 받아, 이를 사용하여 JPAQueryFactory 인스턴스를 초기화
+    public NotiRepositoryCustomImpl(JdbcTemplate jdbcTemplate, EntityManager em) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queryFactory = new JPAQueryFactory(em);
+    }
 
 
     @Override
-    public SseEmitter saveEmitter(String emitterId, SseEmitter emitter) {
-        emitters.put(emitterId, emitter);
-        log.info("Emitter Count : {}", emitters.size());
+    public BufferedSseEmitter saveEmitter(Long userId, String emitterId, BufferedSseEmitter emitter) {
+        // 유저별 Emitter 목록의 생성과 추가를 원자적으로 처리
+        emitters.compute(userId, (key, userEmitters) -> {
+            if(userEmitters == null) userEmitters = new ConcurrentHashMap<>();
+            if(userEmitters.put(emitterId, emitter) == null) emitterCount.incrementAndGet();
+            return userEmitters;
+        });
+        log.info("Emitter Count : {}, Connected User Count : {}", emitterCount.get(), emitters.size());
         return emitter;
     }
 
     @Override
-    public void deleteEmitterById(String emitterId) {
-        emitters.remove(emitterId);
+    public void deleteEmitterById(Long userId, String emitterId) {
+        // 마지막 Emitter가 삭제되면 유저 항목도 함께 제거
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            if(userEmitters.remove(emitterId) != null) emitterCount.decrementAndGet();
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
     }
 
     @Override
-    public void deleteEmittersByUserId(String userId) {
-        emitters.forEach(
-                (key, emitter)->{
-                    if(key.startsWith(userId)){
-                        emitters.remove(key);
-                    }
-                }
-        );
+    public void deleteEmittersByUserId(Long userId) {
+        Map<String, BufferedSseEmitter> removed = emitters.remove(userId);
+        if(removed != null) emitterCount.addAndGet(-removed.size());
     }
 
     @Override
-    public void deleteEventCacheByUserId() {
-        // 3개월이 지난 EventCache는 삭제
-        eventCaches.forEach(
-                (key, noti) ->{
-                    LocalDateTime createdTime = noti.getCreatedTime().plusMonths(3L); // 생성 후 3시간이 지난 알림
-                    LocalDateTime now = LocalDateTime.now(); // 현재 시간
-                    if(now.compareTo(createdTime) <= 0){ // 생성한 지 3개월이 지난 알림은 캐시에서 제거
-                        eventCaches.remove(noti);
+    public int deleteEmitters(Map<Long, List<String>> emitterIds) {
+        AtomicInteger removed = new AtomicInteger();
+        emitterIds.forEach((userId, ids) ->
+                emitters.computeIfPresent(userId, (key, userEmitters) -> {
+                    for(String emitterId : ids){
+                        if(userEmitters.remove(emitterId) != null) removed.incrementAndGet();
                     }
-                }
-        );
+                    return userEmitters.isEmpty() ? null : userEmitters;
+                }));
+        emitterCount.addAndGet(-removed.get());
+        return removed.get();
+    }
+
+    @Override
+    public void deleteExpiredEventCaches() {
+        // 보관 시간이 지난 EventCache는 삭제, 비어있는 유저 캐시는 함께 제거
+        LocalDateTime expiredBefore = LocalDateTime.now().minusHours(eventCacheTtlHours);
+        eventCaches.forEach((userId, buffer) ->
+                eventCaches.computeIfPresent(userId, (key, current) -> current.evictExpired(expiredBefore) == 0 ? null : current));
+    }
+
+    @Override
+    public Map<String, BufferedSseEmitter> findSseEmittersById(Long userId) {
+        Map<String, BufferedSseEmitter> userEmitters = emitters.get(userId);
+        return userEmitters == null ? Collections.emptyMap() : Collections.unmodifiableMap(userEmitters);
+    }
+
+    @Override
+    public Map<Long, Map<String, BufferedSseEmitter>> findSseEmittersByIds(Collection<Long> userIds) {
+        // 연결된 유저만 결과에 포함
+        Map<Long, Map<String, BufferedSseEmitter>> result = new HashMap<>();
+        for(Long userId : userIds){
+            Map<String, BufferedSseEmitter> userEmitters = emitters.get(userId);
+            if(userEmitters != null) result.put(userId, Collections.unmodifiableMap(userEmitters));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Long, Map<String, BufferedSseEmitter>> findAllEmitters() {
+        return Collections.unmodifiableMap(emitters);
+    }
+
+    @Override
+    public int countEmitters() {
+        return emitterCount.get();
+    }
+
+    @Override
+    public int countConnectedUsers() {
+        return emitters.size();
+    }
+
+    @Override
+    public List<CachedNoti> findEventCachesAfter(Long userId, long eventId) {
+        NotiEventBuffer buffer = eventCaches.get(userId);
+        if(buffer == null) return Collections.emptyList();
+        return buffer.findAfter(eventId, LocalDateTime.now().minusHours(eventCacheTtlHours));
+    }
+
+    @Override
+    public boolean isEventCacheCovering(Long userId, long eventId) {
+        NotiEventBuffer buffer = eventCaches.get(userId);
+        return buffer != null && buffer.covers(eventId);
+    }
+
+    @Override
+    public void saveEventCache(Long userId, Noti noti){
+        eventCaches.computeIfAbsent(userId, key -> new NotiEventBuffer(eventCacheCapacity))
+                .add(new CachedNoti(noti.getEventId(), noti, LocalDateTime.now()));
+    }
+
+    @Override
+    public Integer findUnreadCount(Long userId) {
+        UnreadCount unreadCount = unreadCounts.get(userId);
+        if(unreadCount == null || !unreadCount.isLoaded() || isExpired(unreadCount)) return null;
+        return unreadCount.getCount();
     }
 
     @Override
-    public Map<String, SseEmitter> findSseEmittersById(String userId) {
-        return emitters.entrySet().stream()
-                .filter(entry->entry.getKey().startsWith(userId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public long startUnreadCountLoad(Long userId) {
+        long loadToken = unreadCountLoads.incrementAndGet();
+        unreadCounts.put(userId, new UnreadCount(0, LocalDateTime.now(), loadToken));
+        return loadToken;
     }
 
     @Override
-    public Map<String, Noti> findEventCachesByUserId(String userId) {
-        return eventCaches.entrySet().stream()
-                .filter(entry->entry.getKey().startsWith(userId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public boolean saveLoadedUnreadCount(Long userId, int count, long loadToken) {
+        // 조회하는 사이 개수가 바뀌어 조회 중 항목이 삭제되었거나 다른 조회가 시작되었다면 저장하지 않음
+        UnreadCount loaded = new UnreadCount(Math.max(count, 0), LocalDateTime.now(), 0);
+        return unreadCounts.computeIfPresent(userId, (key, current) -> current.getLoadToken() == loadToken ? loaded : current) == loaded;
     }
 
     @Override
-    public void saveEventCache(String key, Noti noti){
-        eventCaches.put(key, noti);
+    public Integer increaseUnreadCount(Long userId, int delta) {
+        // 캐시된 유저만 갱신, 캐시에 없는 유저는 다음 조회 시 DB에서 다시 적재
+        // DB에서 조회 중인 유저라면 조회 결과가 이미 지난 값일 수 있으므로 조회 중 항목을 삭제하여 저장되지 않도록 한다
+        UnreadCount updated = unreadCounts.computeIfPresent(userId, (key, current) ->
+                !current.isLoaded() || isExpired(current) ? null
+                        : new UnreadCount(Math.max(current.getCount() + delta, 0), current.getLoadedTime(), 0));
+        return updated == null ? null : updated.getCount();
+    }
+
+    @Override
+    public void deleteUnreadCount(Long userId) {
+        unreadCounts.remove(userId);
+    }
+
+    @Override
+    public void deleteExpiredUnreadCounts() {
+        unreadCounts.forEach((userId, unreadCount) ->
+                unreadCounts.computeIfPresent(userId, (key, current) -> isExpired(current) ? null : current));
+    }
+
+    // 읽지 않은 알림 개수 캐시의 보관 시간이 지났는지 확인
+    private boolean isExpired(UnreadCount unreadCount) {
+        return unreadCount.getLoadedTime().isBefore(LocalDateTime.now().minusMinutes(unreadCountTtlMinutes));
+    }
+
+    @Override
+    public List<Noti> findNotisBefore(Long userId, Long cursor, NotiFilter filter, int size) {
+        // (user_id, id) 인덱스 범위 조회, OFFSET 없이 커서 이후만 읽으므로 페이지 위치와 무관하게 일정한 비용
+        return queryFactory
+                .selectFrom(noti)
+                .where(noti.user.id.eq(userId), statusEq(filter), idLt(cursor))
+                .orderBy(noti.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 읽음 여부 조건, 전체 조회인 경우 조건 없음
+    private BooleanExpression statusEq(NotiFilter filter) {
+        if(filter == null || filter == NotiFilter.ALL) return null;
+        return noti.status.eq(filter == NotiFilter.READ);
+    }
+
+    // 커서 조건, 첫 페이지인 경우 조건 없음
+    private BooleanExpression idLt(Long cursor) {
+        return cursor == null ? null : noti.id.lt(cursor);
+    }
+
+    @Override
+    public void saveAllInBatch(List<Noti> notis) {
+        if(notis.isEmpty()) return;
+
+        // IDENTITY 전략은 JPA 배치 저장이 불가능하므로 JDBC 배치로 한 번에 저장
+        String sql = "INSERT INTO notification (message, status, created_time, user_id, sender, event_id) VALUES (?, ?, ?, ?, ?, ?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Noti noti = notis.get(i);
+                ps.setString(1, noti.getMessage());
+                ps.setBoolean(2, noti.getStatus());
+                ps.setTimestamp(3, Timestamp.valueOf(noti.getCreatedTime()));
+                ps.setLong(4, noti.getUser().getId());
+                ps.setString(5, noti.getSender());
+                ps.setLong(6, noti.getEventId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return notis.size();
+            }
+        }, keyHolder);
+
+        // 발급된 식별 ID를 저장 순서대로 반영
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for(int i = 0; i < keys.size(); i++){
+            Number id = (Number) keys.get(i).values().iterator().next();
+            notis.get(i).assignId(id.longValue());
+        }
     }
 }
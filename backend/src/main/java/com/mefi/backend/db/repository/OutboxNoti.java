@@ -0,0 +1,28 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.db.entity.Noti;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 아웃박스에서 조회한 알림
+@Getter
+@AllArgsConstructor
+public class OutboxNoti {
+
+    // 아웃박스 식별 ID
+    private Long id;
+
+    // 발행한 노드 ID
+    private String nodeId;
+
+    // 수신자 ID
+    private Long userId;
+
+    // 알림, 읽지 않은 알림 개수 변경 행이라면 null
+    private Noti noti;
+
+    // 아웃박스 기록 시각
+    private LocalDateTime createdTime;
+}
@@ -0,0 +1,16 @@
+package com.mefi.backend.db.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 전송하기 위해 잠금을 건 알림 예약
+@Getter
+@AllArgsConstructor
+public class ReminderClaim {
+
+    // 예약 식별 ID
+    private Long id;
+
+    // 회의 식별 ID
+    private Long conferenceId;
+}
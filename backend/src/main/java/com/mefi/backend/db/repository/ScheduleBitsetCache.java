@@ -0,0 +1,93 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.common.util.DayBitset;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 하루 일정 비트셋 캐시
+ * 캐시에 없는 유저들의 일정은 한 번의 범위 조회로 불러오고, 일정 구간 캐시가 삭제될 때 함께 삭제된다
+ * 반환된 비트셋은 캐시와 공유되므로 수정하지 않는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleBitsetCache {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleIntervalCache scheduleIntervalCache;
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<LocalDate, DayBits>> caches = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong(); // 캐시 삭제 횟수, 조회 중에 삭제된 경우 조회 결과를 저장하지 않는다
+
+    @Value("${schedule.bitset-cache.ttl-minutes:30}")
+    private long ttlMinutes; // 캐시 보관 시간
+
+    // 일정 변경으로 일정 구간 캐시가 삭제되면 해당 유저의 비트셋도 삭제
+    @PostConstruct
+    protected void subscribe() {
+        scheduleIntervalCache.onEvict(this::evict);
+    }
+
+    // 여러 유저의 하루 일정 비트셋 조회
+    public Map<Long, long[]> findDayBitsets(Collection<Long> userIds, LocalDate day) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredBefore = now.minusMinutes(ttlMinutes);
+        Map<Long, long[]> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for(Long userId : userIds){
+            Map<LocalDate, DayBits> days = caches.get(userId);
+            DayBits cached = days == null ? null : days.get(day);
+            if(cached != null && !cached.loadedTime().isBefore(expiredBefore)) result.put(userId, cached.bits());
+            else missing.add(userId);
+        }
+        if(missing.isEmpty()) return result;
+
+        // 캐시에 없는 유저들의 해당 일자 일정을 한 번에 조회하여 비트셋 생성
+        long stamp = invalidations.get();
+        Map<Long, long[]> loaded = new HashMap<>();
+        missing.forEach(userId -> loaded.put(userId, DayBitset.empty()));
+        for(MemberScheduleInterval interval : scheduleRepository.findMemberIntervals(missing, day.atStartOfDay(), day.plusDays(1).atStartOfDay())){
+            DayBitset.mark(loaded.get(interval.getUserId()), day, interval.getStartedTime(), interval.getEndTime());
+        }
+
+        // 조회하는 사이 캐시가 삭제되었다면 오래된 결과일 수 있으므로 저장하지 않음
+        if(invalidations.get() == stamp){
+            loaded.forEach((userId, bits) ->
+                    caches.computeIfAbsent(userId, key -> new ConcurrentHashMap<>()).put(day, new DayBits(bits, now)));
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    // 매시 정각마다 보관 시간이 지난 캐시 삭제
+    @Scheduled(cron = "0 0 * * * ?")
+    protected void deleteExpired() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(ttlMinutes);
+        caches.forEach((userId, days) -> {
+            days.values().removeIf(bits -> bits.loadedTime().isBefore(expiredBefore));
+            caches.computeIfPresent(userId, (key, current) -> current.isEmpty() ? null : current);
+        });
+    }
+
+    private void evict(Long userId) {
+        invalidations.incrementAndGet();
+        caches.remove(userId);
+    }
+
+    // 하루 일정 비트셋과 생성 시간
+    private record DayBits(long[] bits, LocalDateTime loadedTime) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.mefi.backend.db.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 일정 중복 검사에 필요한 일정 ID와 시간 구간만 담은 조회 결과
+@Getter
+@AllArgsConstructor
+public class ScheduleInterval {
+
+    // 일정 식별 ID
+    private Long id;
+
+    // 시작 시간
+    private LocalDateTime startedTime;
+
+    // 종료 시간
+    private LocalDateTime endTime;
+}
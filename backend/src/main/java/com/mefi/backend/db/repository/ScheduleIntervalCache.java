@@ -0,0 +1,98 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.db.entity.PrivateSchedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 일정 중복 검사를 위한 유저별 일정 구간 캐시
+ * 처음 조회할 때 오늘 이후에 끝나는 일정을 한 번에 불러오고, 일정이 변경되면 해당 유저의 캐시를 삭제한다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ScheduleIntervalCache {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ConcurrentHashMap<Long, ScheduleIntervals> caches = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong(); // 캐시 삭제 횟수, 조회 중에 삭제된 경우 조회 결과를 저장하지 않는다
+    private final List<Consumer<Long>> evictListeners = new CopyOnWriteArrayList<>(); // 캐시 삭제 시 함께 삭제할 다른 일정 캐시
+
+    @Value("${schedule.interval-cache.ttl-minutes:30}")
+    private long ttlMinutes; // 캐시 보관 시간
+
+    // [start, end) 구간과 겹치는 일정 ID 조회, 캐시가 보관하지 않는 과거 구간은 DB에서 조회
+    public List<Long> findOverlaps(Long userId, LocalDateTime start, LocalDateTime end) {
+        ScheduleIntervals intervals = getOrLoad(userId);
+        if(intervals.covers(start)) return intervals.findOverlaps(start, end);
+
+        return scheduleRepository.findDuplicationByUserAndTime(userId, start, end).stream()
+                .map(PrivateSchedule::getId)
+                .toList();
+    }
+
+    // 일정 변경 시 캐시 삭제, 트랜잭션이 끝난 뒤에도 한 번 더 삭제하여 커밋 전에 다시 불러온 캐시가 남지 않도록 한다
+    public void invalidate(Long userId) {
+        evict(userId);
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    // 유저의 캐시가 삭제될 때 함께 실행할 작업 등록
+    public void onEvict(Consumer<Long> listener) {
+        evictListeners.add(listener);
+    }
+
+    // 여러 유저의 캐시 삭제
+    public void invalidateAll(Collection<Long> userIds) {
+        userIds.forEach(this::invalidate);
+    }
+
+    // 매시 정각마다 보관 시간이 지난 캐시 삭제
+    @Scheduled(cron = "0 0 * * * ?")
+    protected void deleteExpired() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(ttlMinutes);
+        caches.values().removeIf(intervals -> intervals.isLoadedBefore(expiredBefore));
+    }
+
+    private ScheduleIntervals getOrLoad(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        ScheduleIntervals intervals = caches.get(userId);
+        if(intervals != null && !intervals.isLoadedBefore(now.minusMinutes(ttlMinutes))) return intervals;
+
+        // 오늘 이후에 끝나는 일정을 시작 시간 순으로 조회
+        long stamp = invalidations.get();
+        LocalDateTime coveredFrom = LocalDate.now().atStartOfDay();
+        intervals = new ScheduleIntervals(scheduleRepository.findIntervalsEndingAfter(userId, coveredFrom), coveredFrom, now);
+
+        // 조회하는 사이 캐시가 삭제되었다면 오래된 결과일 수 있으므로 저장하지 않음
+        if(invalidations.get() == stamp) caches.put(userId, intervals);
+        return intervals;
+    }
+
+    private void evict(Long userId) {
+        invalidations.incrementAndGet();
+        caches.remove(userId);
+        evictListeners.forEach(listener -> listener.accept(userId));
+    }
+}
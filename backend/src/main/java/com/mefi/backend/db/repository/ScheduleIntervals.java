@@ -0,0 +1,67 @@
+package com.mefi.backend.db.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 유저 한 명의 일정 구간을 시작 시간 순으로 보관, 겹치는 일정을 이진 탐색으로 찾는다
+class ScheduleIntervals {
+
+    private final Long[] ids;
+    private final LocalDateTime[] starts;
+    private final LocalDateTime[] ends;
+    private final LocalDateTime[] maxEnds; // 처음부터 각 위치까지의 가장 늦은 종료 시간
+    private final LocalDateTime coveredFrom; // 이 시간 이후에 끝나는 일정을 모두 보관
+    private final LocalDateTime loadedTime; // DB에서 조회한 시간
+
+    // 시작 시간 순으로 정렬된 일정 구간으로 생성
+    ScheduleIntervals(List<ScheduleInterval> intervals, LocalDateTime coveredFrom, LocalDateTime loadedTime) {
+        int size = intervals.size();
+        this.ids = new Long[size];
+        this.starts = new LocalDateTime[size];
+        this.ends = new LocalDateTime[size];
+        this.maxEnds = new LocalDateTime[size];
+        this.coveredFrom = coveredFrom;
+        this.loadedTime = loadedTime;
+
+        for(int i = 0; i < size; i++){
+            ScheduleInterval interval = intervals.get(i);
+            ids[i] = interval.getId();
+            starts[i] = interval.getStartedTime();
+            ends[i] = interval.getEndTime();
+            maxEnds[i] = i > 0 && maxEnds[i - 1].isAfter(ends[i]) ? maxEnds[i - 1] : ends[i];
+        }
+    }
+
+    // 주어진 시간부터 시작하는 구간의 중복 여부를 캐시만으로 판단할 수 있는지 여부
+    boolean covers(LocalDateTime start) {
+        return !start.isBefore(coveredFrom);
+    }
+
+    // [start, end) 구간과 겹치는 일정 ID 조회
+    List<Long> findOverlaps(LocalDateTime start, LocalDateTime end) {
+        List<Long> result = new ArrayList<>();
+
+        // end 이전에 시작하는 마지막 일정부터 앞으로 확인, 앞쪽에 start 이후에 끝나는 일정이 없으면 중단
+        for(int i = lowerBound(end) - 1; i >= 0 && maxEnds[i].isAfter(start); i--){
+            if(ends[i].isAfter(start)) result.add(ids[i]);
+        }
+        return result;
+    }
+
+    boolean isLoadedBefore(LocalDateTime time) {
+        return loadedTime.isBefore(time);
+    }
+
+    // 시작 시간이 time 이상인 첫 위치
+    private int lowerBound(LocalDateTime time) {
+        int low = 0;
+        int high = starts.length;
+        while(low < high){
+            int mid = (low + high) >>> 1;
+            if(starts[mid].isBefore(time)) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+}
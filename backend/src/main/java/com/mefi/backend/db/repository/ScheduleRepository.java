@@ -3,7 +3,10 @@ package com.mefi.backend.db.repository;
 import com.mefi.backend.api.response.ScheduleTimeDto;
 import com.mefi.backend.db.entity.PrivateSchedule;
 import com.mefi.backend.db.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -11,30 +14,65 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface ScheduleRepository extends JpaRepository<PrivateSchedule, Long> {
+public interface ScheduleRepository extends JpaRepository<PrivateSchedule, Long>, ScheduleRepositoryCustom {
 
     Optional<PrivateSchedule> findById(Long scheduleId);
 
     List<PrivateSchedule> findByUserAndStartedTimeBetweenOrderByStartedTime(User user, LocalDateTime start, LocalDateTime end);
 
+    // 팀원들의 [start, end) 구간에 시작하는 일정 조회, (user_id, started_time) 인덱스 범위 조회
     @Query("SELECT new com.mefi.backend.api.response.ScheduleTimeDto(s.startedTime, s.endTime) " +
             "FROM PrivateSchedule s " +
             "WHERE s.user.id IN :userIds " +
-            "AND FUNCTION('YEAR', s.startedTime) = FUNCTION('YEAR', :date) " +
-            "AND FUNCTION('MONTH', s.startedTime) = FUNCTION('MONTH', :date) " +
-            "AND FUNCTION('DAY', s.startedTime) = FUNCTION('DAY', :date) " +
+            "AND s.startedTime >= :start AND s.startedTime < :end " +
             "ORDER BY s.startedTime")
-    List<ScheduleTimeDto> findAllMemberSchedule(@Param("userIds") List<Long> members, @Param("date") LocalDateTime date);
+    List<ScheduleTimeDto> findAllMemberSchedule(@Param("userIds") List<Long> members, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
+    // 기존 일정이 새 일정보다 먼저 시작하고 새 일정 시작 이후에 끝나면 겹친다, 포함 관계도 모두 이 조건에 해당
     @Query("SELECT s FROM PrivateSchedule s " +
             "WHERE s.user.id = :userId " + // 해당 사용자의 일정만 확인
-            "AND ((s.startedTime < :endTime AND s.endTime > :startTime) " + // 새 일정이 기존 일정과 부분적으로 겹치는 경우
-            "OR (s.startedTime <= :startTime AND s.endTime >= :endTime) " + // 새 일정이 기존 일정을 완전히 포함하는 경우
-            "OR (s.startedTime >= :startTime AND s.startedTime < :endTime) " + // 새 일정이 기존 일정의 시작 시간과 종료 시간 사이에 있는 경우
-            "OR (s.endTime > :startTime AND s.endTime <= :endTime))") // 새 일정이 기존 일정의 시작 시간과 종료 시간 사이에 있는 경우
-
+            "AND s.startedTime < :endTime AND s.endTime > :startTime")
     List<PrivateSchedule> findDuplicationByUserAndTime(@Param("userId") Long userId, @Param("startTime") LocalDateTime start, @Param("endTime") LocalDateTime end);
 
-    @Query("SELECT p FROM PrivateSchedule p WHERE p.user = :user and p.startedTime = :start and p.endTime = :end")
-    Optional<PrivateSchedule> getSchedule(@Param("user") User user, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    // 주어진 시간 이후에 끝나는 일정 구간을 시작 시간 순으로 조회, 일정 중복 검사 캐시에 사용
+    @Query("SELECT new com.mefi.backend.db.repository.ScheduleInterval(s.id, s.startedTime, s.endTime) " +
+            "FROM PrivateSchedule s " +
+            "WHERE s.user.id = :userId AND s.endTime > :from " +
+            "ORDER BY s.startedTime")
+    List<ScheduleInterval> findIntervalsEndingAfter(@Param("userId") Long userId, @Param("from") LocalDateTime from);
+
+    // 팀원들의 일정 중 [start, end) 구간과 겹치는 일정을 한 번에 조회, (user_id, end_time) 인덱스 범위 조회
+    @Query("SELECT new com.mefi.backend.db.repository.MemberScheduleInterval(s.user.id, s.startedTime, s.endTime) " +
+            "FROM PrivateSchedule s " +
+            "WHERE s.user.id IN :userIds AND s.endTime > :start AND s.startedTime < :end")
+    List<MemberScheduleInterval> findMemberIntervals(@Param("userIds") List<Long> userIds, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 회의로 등록된 일정을 가진 유저 ID 조회, conference_id 인덱스 조회
+    @Query("SELECT s.user.id FROM PrivateSchedule s WHERE s.conference.id = :conferenceId")
+    List<Long> findUserIdsByConferenceId(@Param("conferenceId") Long conferenceId);
+
+    // 유저들의 일정 중 [start, end) 구간과 겹치는 일정을 잠금을 걸어 조회, 일정 등록, 수정 직전의 최종 중복 검사에 사용
+    // 잠금 읽기는 트랜잭션의 첫 조회 시점이 아닌 가장 최근에 커밋된 일정을 읽는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PrivateSchedule s " +
+            "WHERE s.user.id IN :userIds AND s.endTime > :start AND s.startedTime < :end")
+    List<PrivateSchedule> findOverlapsForUpdate(@Param("userIds") List<Long> userIds, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 회의로 등록된 일정 일괄 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PrivateSchedule s WHERE s.conference.id = :conferenceId")
+    int deleteByConferenceId(@Param("conferenceId") Long conferenceId);
+
+    // 특정 유저들의 회의 일정 일괄 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PrivateSchedule s WHERE s.conference.id = :conferenceId AND s.user.id IN :userIds")
+    int deleteByConferenceIdAndUserIds(@Param("conferenceId") Long conferenceId, @Param("userIds") List<Long> userIds);
+
+    // 회의로 등록된 일정의 시간과 내용 일괄 수정
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PrivateSchedule s " +
+            "SET s.startedTime = :start, s.endTime = :end, s.summary = :summary, s.description = :description " +
+            "WHERE s.conference.id = :conferenceId")
+    int updateByConferenceId(@Param("conferenceId") Long conferenceId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+                             @Param("summary") String summary, @Param("description") String description);
 }
@@ -0,0 +1,11 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.db.entity.PrivateSchedule;
+
+import java.util.List;
+
+public interface ScheduleRepositoryCustom {
+
+    // 여러 일정을 하나의 JDBC 배치로 저장
+    void saveAllInBatch(List<PrivateSchedule> schedules);
+}
@@ -0,0 +1,45 @@
+package com.mefi.backend.db.repository;
+
+import com.mefi.backend.db.entity.PrivateSchedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ScheduleRepositoryCustomImpl implements ScheduleRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAllInBatch(List<PrivateSchedule> schedules) {
+        if(schedules.isEmpty()) return;
+
+        // IDENTITY 전략은 JPA 배치 저장이 불가능하므로 JDBC 배치로 한 번에 저장
+        String sql = "INSERT INTO private_schedule (user_id, started_time, end_time, summary, description, type, conference_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PrivateSchedule schedule = schedules.get(i);
+                ps.setLong(1, schedule.getUser().getId());
+                ps.setTimestamp(2, Timestamp.valueOf(schedule.getStartedTime()));
+                ps.setTimestamp(3, Timestamp.valueOf(schedule.getEndTime()));
+                ps.setString(4, schedule.getSummary());
+                ps.setString(5, schedule.getDescription());
+                ps.setString(6, schedule.getType().name());
+                if(schedule.getConference() == null) ps.setNull(7, Types.BIGINT);
+                else ps.setLong(7, schedule.getConference().getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return schedules.size();
+            }
+        });
+    }
+}
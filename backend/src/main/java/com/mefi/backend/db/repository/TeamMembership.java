@@ -0,0 +1,16 @@
+package com.mefi.backend.db.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 여러 팀의 팀원을 한 번에 조회할 때 팀 ID와 유저 ID만 담은 조회 결과
+@Getter
+@AllArgsConstructor
+public class TeamMembership {
+
+    // 팀 식별 ID
+    private Long teamId;
+
+    // 유저 식별 ID
+    private Long userId;
+}
@@ -1,12 +1,14 @@
 package com.mefi.backend.db.repository;
 
 import com.mefi.backend.db.entity.Team;
+import com.mefi.backend.db.entity.UserRole;
 import com.mefi.backend.db.entity.UserTeam;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +32,12 @@ public interface TeamUserRepository extends JpaRepository<UserTeam, Long>, TeamU
     List<Long> findByUserId(@Param("teamId") Long teamId);
 
     List<UserTeam> findAllByTeamId(Long teamId);
+
+    // 여러 팀의 팀원 PK를 한 번에 조회
+    @Query("SELECT new com.mefi.backend.db.repository.TeamMembership(ut.team.id, ut.user.id) FROM UserTeam ut WHERE ut.team.id IN :teamIds")
+    List<TeamMembership> findMembershipsByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    // 특정 역할의 멤버 PK 조회
+    @Query("SELECT ut.user.id FROM UserTeam ut WHERE ut.team.id = :teamId AND ut.role = :role")
+    List<Long> findUserIdsByTeamIdAndRole(@Param("teamId") Long teamId, @Param("role") UserRole role);
 }
@@ -0,0 +1,26 @@
+package com.mefi.backend.db.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 유저별 읽지 않은 알림 개수 캐시 항목
+@Getter
+@AllArgsConstructor
+class UnreadCount {
+
+    // 읽지 않은 알림 개수
+    private int count;
+
+    // DB에서 개수를 조회한 시간, 보관 시간이 지나면 다시 조회
+    private LocalDateTime loadedTime;
+
+    // DB에서 개수를 조회하는 중인 항목의 조회 번호, 조회가 끝난 항목은 0
+    private long loadToken;
+
+    // DB 조회가 끝나 개수를 사용할 수 있는지 여부
+    boolean isLoaded() {
+        return loadToken == 0;
+    }
+}
@@ -1,8 +1,14 @@
 package com.mefi.backend.db.repository;
 
 import com.mefi.backend.db.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User,Long>, UserRepositoryCustom {
@@ -12,4 +18,14 @@ public interface UserRepository extends JpaRepository<User,Long>, UserRepository
 
     // 식별 ID로 회원 조회
     Optional<User> findById(Long id);
-}
\ No newline at end of file
+
+    // 일정을 변경하기 위해 잠금을 걸어 조회, 같은 유저의 일정 등록, 수정이 동시에 중복 검사를 통과하지 않도록 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long userId);
+
+    // 여러 유저를 식별 ID 순으로 잠금을 걸어 조회, 항상 같은 순서로 잠가 교착 상태를 피한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<User> findAllByIdForUpdate(@Param("ids") Collection<Long> userIds);
+}
@@ -0,0 +1,161 @@
+package com.mefi.backend.api.event;
+
+import com.mefi.backend.db.entity.Noti;
+import com.mefi.backend.db.repository.NotiOutboxRepository;
+import com.mefi.backend.db.repository.OutboxNoti;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JdbcNotiBusTest {
+
+    private static final String OTHER_NODE = "other-node";
+
+    private final List<OutboxNoti> committed = new ArrayList<>(); // 커밋되어 조회 가능한 아웃박스 행
+    private final List<Long> received = new ArrayList<>(); // 핸들러로 전달된 알림의 이벤트 ID
+    private final List<Long> reread = new ArrayList<>(); // 빈 번호로 다시 조회한 아웃박스 식별 ID
+    private JdbcNotiBus bus;
+
+    @BeforeEach
+    void setUp() {
+        NotiOutboxRepository repository = mock(NotiOutboxRepository.class);
+        when(repository.findMaxIdCreatedBefore(any())).thenAnswer(invocation -> {
+            LocalDateTime time = invocation.getArgument(0);
+            return committed.stream()
+                    .filter(row -> row.getCreatedTime().isBefore(time))
+                    .mapToLong(OutboxNoti::getId)
+                    .max().orElse(0);
+        });
+        when(repository.findAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long cursor = invocation.getArgument(0);
+            int size = invocation.getArgument(1);
+            return committed.stream()
+                    .filter(row -> row.getId() > cursor)
+                    .sorted(Comparator.comparing(OutboxNoti::getId))
+                    .limit(size)
+                    .toList();
+        });
+
+        when(repository.findByIds(any())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            reread.addAll(ids);
+            return committed.stream()
+                    .filter(row -> ids.contains(row.getId()))
+                    .sorted(Comparator.comparing(OutboxNoti::getId))
+                    .toList();
+        });
+
+        bus = new JdbcNotiBus(repository);
+        ReflectionTestUtils.setField(bus, "pollSize", 2);
+        ReflectionTestUtils.setField(bus, "commitLagSeconds", 30L);
+        bus.subscribe((userIds, notis) -> notis.forEach(noti -> received.add(noti.getEventId())));
+        bus.initCursor();
+    }
+
+    @Test
+    @DisplayName("앞 번호 행이 나중에 커밋되어도 한 번씩 전달한다")
+    void deliversRowsCommittedOutOfOrder() {
+        // 2번 행이 먼저 커밋
+        commit(2L, OTHER_NODE, LocalDateTime.now());
+        bus.poll();
+        assertThat(received).containsExactly(2L);
+
+        // 이미 2번까지 읽은 뒤 1번 행이 커밋
+        commit(1L, OTHER_NODE, LocalDateTime.now());
+        bus.poll();
+        bus.poll();
+        assertThat(received).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("이어서 전달한 행까지 커서를 옮기고 늦게 커밋된 빈 번호만 다시 읽는다")
+    void rereadsOnlyGapsFilledByLateCommit() {
+        commit(1L, OTHER_NODE, LocalDateTime.now());
+        commit(2L, OTHER_NODE, LocalDateTime.now());
+        commit(4L, OTHER_NODE, LocalDateTime.now());
+        commit(5L, OTHER_NODE, LocalDateTime.now());
+        bus.poll();
+
+        assertThat(received).containsExactly(1L, 2L, 4L, 5L);
+        assertThat((long) ReflectionTestUtils.getField(bus, "cursor")).isEqualTo(2L);
+
+        // 아직 커밋되지 않은 빈 번호만 다시 조회하고 이미 전달한 행은 다시 읽지 않는다
+        bus.poll();
+        assertThat(reread).containsExactly(3L);
+        assertThat(received).containsExactly(1L, 2L, 4L, 5L);
+
+        // 늦게 커밋된 3번 행이 빈 번호를 채우면 전달하고 커서를 마지막 행까지 옮긴다
+        commit(3L, OTHER_NODE, LocalDateTime.now());
+        bus.poll();
+        assertThat(received).containsExactly(1L, 2L, 4L, 5L, 3L);
+        assertThat((long) ReflectionTestUtils.getField(bus, "cursor")).isEqualTo(5L);
+
+        // 빈 번호가 없으면 다시 조회하지 않는다
+        bus.poll();
+        assertThat(reread).containsExactly(3L, 3L);
+        assertThat(received).containsExactly(1L, 2L, 4L, 5L, 3L);
+    }
+
+    @Test
+    @DisplayName("커밋 대기 시간이 지나도 채워지지 않은 빈 번호는 건너뛴다")
+    void skipsGapsNotFilledWithinCommitLag() {
+        commit(1L, OTHER_NODE, LocalDateTime.now());
+        commit(3L, OTHER_NODE, LocalDateTime.now());
+        bus.poll();
+        assertThat((long) ReflectionTestUtils.getField(bus, "cursor")).isEqualTo(1L);
+
+        // 롤백된 2번은 커밋 대기 시간이 지나면 건너뛰고 커서를 옮긴다
+        ReflectionTestUtils.setField(bus, "commitLagSeconds", -1L);
+        bus.poll();
+        assertThat((long) ReflectionTestUtils.getField(bus, "cursor")).isEqualTo(3L);
+        assertThat(received).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("현재 노드에서 발행한 알림과 시작 전에 보이던 행은 전달하지 않는다")
+    void skipsOwnRowsAndRowsVisibleAtStartup() {
+        // 시작 시점에 이미 보이던 행은 전달한 것으로 처리
+        commit(1L, OTHER_NODE, LocalDateTime.now());
+        bus.initCursor();
+
+        String nodeId = (String) ReflectionTestUtils.getField(bus, "nodeId");
+        commit(2L, nodeId, LocalDateTime.now());
+        commit(3L, OTHER_NODE, LocalDateTime.now());
+        bus.poll();
+
+        assertThat(received).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("알림이 없는 행은 읽지 않은 알림 개수 변경으로 전달한다")
+    void deliversUnreadCountChangesSeparately() {
+        List<Long> changed = new ArrayList<>();
+        bus.subscribeUnreadCountChanged(changed::addAll);
+
+        commit(1L, OTHER_NODE, LocalDateTime.now());
+        committed.add(new OutboxNoti(2L, OTHER_NODE, 7L, null, LocalDateTime.now()));
+        bus.poll();
+
+        assertThat(received).containsExactly(1L);
+        assertThat(changed).containsExactly(7L);
+    }
+
+    // 이벤트 ID를 아웃박스 식별 ID와 같게 하여 커밋
+    private void commit(Long id, String nodeId, LocalDateTime createdTime) {
+        Noti noti = Noti.builder().message("message").status(false).createdTime(createdTime).sender("sender").eventId(id).build();
+        committed.add(new OutboxNoti(id, nodeId, 1L, noti, createdTime));
+    }
+}
@@ -0,0 +1,71 @@
+package com.mefi.backend.common.util;
+
+import com.mefi.backend.db.repository.EventIdNodeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventIdGeneratorTest {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long NODE_MASK = (1L << 10) - 1;
+
+    private final EventIdNodeRepository repository = mock(EventIdNodeRepository.class);
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 잘라내지 않고 시작을 중단한다")
+    void rejectsOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new EventIdGenerator(1024, repository)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EventIdGenerator(-2, repository)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("지정한 노드 ID는 임대하지 않고 그대로 사용한다")
+    void usesConfiguredNodeId() {
+        EventIdGenerator generator = new EventIdGenerator(7, repository);
+        generator.init();
+
+        assertThat(nodeIdOf(generator.nextId())).isEqualTo(7L);
+        verify(repository, never()).claim(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("노드 ID를 지정하지 않으면 임대한 값을 사용하고, 임대를 잃으면 새로 임대한다")
+    void leasesNodeIdWhenNotConfigured() {
+        when(repository.claim(anyString(), anyInt(), anyLong())).thenReturn(3, 5);
+        EventIdGenerator generator = new EventIdGenerator(-1, repository);
+        generator.init();
+        long before = generator.nextId();
+        assertThat(nodeIdOf(before)).isEqualTo(3L);
+
+        // 연장하지 못한 사이 다른 서버가 차지한 경우
+        when(repository.renew(anyInt(), anyString(), anyLong())).thenReturn(false);
+        generator.renewLease();
+
+        long after = generator.nextId();
+        assertThat(nodeIdOf(after)).isEqualTo(5L);
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("임대할 수 있는 노드 ID가 없으면 시작을 중단한다")
+    void failsWhenAllNodeIdsAreLeased() {
+        when(repository.claim(anyString(), anyInt(), anyLong())).thenReturn(null);
+        EventIdGenerator generator = new EventIdGenerator(-1, repository);
+
+        assertThatThrownBy(generator::init).isInstanceOf(IllegalStateException.class);
+    }
+
+    private long nodeIdOf(long eventId) {
+        return (eventId >> SEQUENCE_BITS) & NODE_MASK;
+    }
+}
@@ -0,0 +1,88 @@
+package com.mefi.backend.common.util;
+
+import com.mefi.backend.api.response.FreeSlotResDto;
+import com.mefi.backend.db.repository.MemberScheduleInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FreeSlotFinderTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 2, 5, 0, 0);
+    private static final LocalTime WORK_START = LocalTime.of(9, 0);
+    private static final LocalTime WORK_END = LocalTime.of(18, 0);
+
+    @Test
+    @DisplayName("순간마다 비어있는 팀원이 달라도 시간대 전체 동안 비어있는 팀원만 센다")
+    void countsMembersFreeForTheWholeSlot() {
+        // A는 9:00~9:30, C는 9:30~10:00 일정, B만 9:00~10:00 동안 계속 비어있다
+        List<MemberScheduleInterval> intervals = List.of(
+                interval(1L, 9, 0, 9, 30),
+                interval(3L, 9, 30, 10, 0));
+
+        List<FreeSlotResDto> slots = find(intervals, 3, 2, 9, 11, 60);
+
+        assertThat(slots).hasSize(1);
+        assertThat(slots.get(0).getStartedTime()).isEqualTo(at(10, 0));
+        assertThat(slots.get(0).getAvailableCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("정족수 미만이 비어있는 시간대는 제외하고 비어있는 팀원 수를 함께 반환한다")
+    void returnsAvailableCountPerSlot() {
+        // A는 9:00~10:00, B는 9:00~11:00 일정
+        List<MemberScheduleInterval> intervals = List.of(
+                interval(1L, 9, 0, 10, 0),
+                interval(2L, 9, 0, 11, 0));
+
+        List<FreeSlotResDto> slots = find(intervals, 3, 2, 9, 12, 60);
+
+        assertThat(slots).extracting(FreeSlotResDto::getStartedTime).containsExactly(at(10, 0), at(11, 0));
+        assertThat(slots).extracting(FreeSlotResDto::getAvailableCount).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("같은 팀원의 겹치거나 이어지는 일정은 한 번만 센다")
+    void mergesOverlappingIntervalsOfSameMember() {
+        List<MemberScheduleInterval> intervals = List.of(
+                interval(1L, 9, 0, 9, 45),
+                interval(1L, 9, 30, 10, 0),
+                interval(1L, 10, 0, 10, 30));
+
+        List<FreeSlotResDto> slots = find(intervals, 2, 1, 9, 11, 60);
+
+        assertThat(slots).extracting(FreeSlotResDto::getAvailableCount).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("모든 팀원이 필요하면 아무 일정도 없는 시간대만 반환한다")
+    void requiresEveryMemberWhenQuorumIsMemberCount() {
+        List<MemberScheduleInterval> intervals = List.of(
+                interval(1L, 9, 0, 9, 30),
+                interval(2L, 10, 30, 11, 0));
+
+        List<FreeSlotResDto> slots = find(intervals, 2, 2, 9, 12, 60);
+
+        assertThat(slots).extracting(FreeSlotResDto::getStartedTime).containsExactly(at(9, 30), at(11, 0));
+    }
+
+    private List<FreeSlotResDto> find(List<MemberScheduleInterval> intervals, int memberCount, int quorum,
+                                      int fromHour, int toHour, int minutes) {
+        return FreeSlotFinder.find(intervals, memberCount, quorum, at(fromHour, 0), at(toHour, 0),
+                WORK_START, WORK_END, Duration.ofMinutes(minutes), 10);
+    }
+
+    private MemberScheduleInterval interval(Long userId, int startHour, int startMinute, int endHour, int endMinute) {
+        return new MemberScheduleInterval(userId, at(startHour, startMinute), at(endHour, endMinute));
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return DAY.withHour(hour).withMinute(minute);
+    }
+}
@@ -0,0 +1,62 @@
+package com.mefi.backend.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final int WHEEL_SIZE = 4; // 한 바퀴 4초
+    private static final long START = 1_000_000;
+
+    @Test
+    @DisplayName("실행 시각이 되기 전에는 꺼내지 않고, 실행 시각이 지난 틱에 꺼낸다")
+    void expiresAtDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, START);
+        wheel.add(START + 1500, "a");
+
+        assertThat(wheel.advance(START + 1000)).isEmpty();
+        assertThat(wheel.advance(START + 2000)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 추가하면 다음 틱에 꺼낸다")
+    void addWithPastDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, START);
+        wheel.advance(START + 3000);
+        wheel.add(START, "late");
+
+        assertThat(wheel.advance(START + 3500)).isEmpty();
+        assertThat(wheel.advance(START + 4000)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 작업은 같은 버킷을 지나쳐도 실행 시각 전에는 꺼내지 않는다")
+    void keepsEntriesBeyondOneRotation() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, START);
+        wheel.add(START + 5000, "far"); // 1초 뒤 버킷과 같은 버킷
+
+        for(long now = START + 1000; now < START + 5000; now += 1000) {
+            assertThat(wheel.advance(now)).isEmpty();
+        }
+        assertThat(wheel.advance(START + 5000)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("한 바퀴 이상 지난 뒤 확인하면 모든 버킷에서 지난 작업을 한 번씩 꺼낸다")
+    void advanceAfterMoreThanOneRotation() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, START);
+        wheel.add(START + 1000, "a");
+        wheel.add(START + 2500, "b");
+        wheel.add(START + 4000, "c");
+        wheel.add(START + 20000, "later");
+
+        assertThat(wheel.advance(START + 10000)).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 19000)).isEmpty();
+        assertThat(wheel.advance(START + 20000)).containsExactly("later");
+    }
+}
@@ -40,8 +40,11 @@ CREATE TABLE `conference` (
     `thumbnail_url` VARCHAR(255) NOT NULL,
     `title` VARCHAR(255) NOT NULL,
     `description` VARCHAR(255) NOT NULL,
-    `status` ENUM('TODO', 'DONE', 'CANCELED') NOT NULL,
-    CONSTRAINT PK_CONFERENCE PRIMARY KEY (id)
+    `status` ENUM('TODO', 'DONE', 'CANCELED', 'IN_PROGRESS') NOT NULL,
+    CONSTRAINT PK_CONFERENCE PRIMARY KEY (id),
+    INDEX `idx_conference_team_call_start` (`team_id`, `call_start`),
+    INDEX `idx_conference_status_call_start` (`status`, `call_start`),
+    INDEX `idx_conference_status_call_end` (`status`, `call_end`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
 DROP TABLE IF EXISTS `user_conference`;
@@ -83,7 +86,11 @@ CREATE TABLE `private_schedule` (
     `summary` VARCHAR(255) NOT NULL,
     `description` VARCHAR(255) NOT NULL, 
     `type` ENUM('CONFERENCE', 'BUSINESSTRIP') NOT NULL,
-    CONSTRAINT PK_PRIVATE_SCHEDULE PRIMARY KEY (id)
+    `conference_id` BIGINT NULL,
+    CONSTRAINT PK_PRIVATE_SCHEDULE PRIMARY KEY (id),
+    INDEX `idx_private_schedule_user_started` (`user_id`, `started_time`),
+    INDEX `idx_private_schedule_user_end` (`user_id`, `end_time`),
+    INDEX `idx_private_schedule_conference` (`conference_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
 DROP TABLE IF EXISTS `notifications`;
@@ -95,7 +102,94 @@ CREATE TABLE `notification` (
     `status` BOOLEAN NOT NULL,
     `created_time` DATETIME NOT NULL, 
     `sender` VARCHAR(255) NOT NULL,
-    CONSTRAINT PK_NOTIFICATION PRIMARY KEY(id)
+    `event_id` BIGINT NULL,
+    CONSTRAINT PK_NOTIFICATION PRIMARY KEY(id),
+    INDEX `idx_notification_user_event` (`user_id`, `event_id`),
+    INDEX `idx_notification_user_status` (`user_id`, `status`),
+    INDEX `idx_notification_user_id` (`user_id`, `id`),
+    INDEX `idx_notification_status_created` (`status`, `created_time`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+DROP TABLE IF EXISTS `notification_archive`;
+
+CREATE TABLE `notification_archive` (
+    `id` BIGINT NOT NULL,
+    `user_id` BIGINT NOT NULL,
+    `message` VARCHAR(255) NOT NULL,
+    `status` BOOLEAN NOT NULL,
+    `created_time` DATETIME NOT NULL,
+    `sender` VARCHAR(255) NOT NULL,
+    `event_id` BIGINT NULL,
+    `archived_time` DATETIME NOT NULL,
+    CONSTRAINT PK_NOTIFICATION_ARCHIVE PRIMARY KEY(id),
+    INDEX `idx_notification_archive_user` (`user_id`, `id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci ROW_FORMAT=COMPRESSED;
+
+DROP TABLE IF EXISTS `notification_outbox`;
+
+CREATE TABLE `notification_outbox` (
+    `id` BIGINT AUTO_INCREMENT NOT NULL,
+    `node_id` VARCHAR(36) NOT NULL,
+    `user_id` BIGINT NOT NULL,
+    `noti_id` BIGINT NULL,
+    `topic` VARCHAR(50) NULL,
+    `created_time` DATETIME NOT NULL,
+    CONSTRAINT PK_NOTIFICATION_OUTBOX PRIMARY KEY(id),
+    INDEX `idx_notification_outbox_created_time` (`created_time`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+DROP TABLE IF EXISTS `event_id_node`;
+
+CREATE TABLE `event_id_node` (
+    `node_id` INT NOT NULL,
+    `owner` VARCHAR(36) NOT NULL,
+    `expires_time` DATETIME NOT NULL,
+    CONSTRAINT PK_EVENT_ID_NODE PRIMARY KEY(node_id),
+    UNIQUE KEY `uk_event_id_node_owner` (`owner`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+DROP TABLE IF EXISTS `conference_reminder`;
+
+CREATE TABLE `conference_reminder` (
+    `id` BIGINT AUTO_INCREMENT NOT NULL,
+    `conference_id` BIGINT NOT NULL,
+    `offset_minutes` INT NOT NULL,
+    `due_time` DATETIME NOT NULL,
+    `sent_time` DATETIME NULL,
+    CONSTRAINT PK_CONFERENCE_REMINDER PRIMARY KEY(id),
+    INDEX `idx_conference_reminder_due` (`sent_time`, `due_time`),
+    INDEX `idx_conference_reminder_conference` (`conference_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+DROP TABLE IF EXISTS `conference_team_stat`;
+
+CREATE TABLE `conference_team_stat` (
+    `id` BIGINT AUTO_INCREMENT NOT NULL,
+    `team_id` BIGINT NOT NULL,
+    `week_start` DATE NOT NULL,
+    `scheduled_count` INT NOT NULL,
+    `scheduled_minutes` BIGINT NOT NULL,
+    `done_count` INT NOT NULL,
+    `done_minutes` BIGINT NOT NULL,
+    `canceled_count` INT NOT NULL,
+    CONSTRAINT PK_CONFERENCE_TEAM_STAT PRIMARY KEY(id),
+    UNIQUE KEY `uk_conference_team_stat` (`team_id`, `week_start`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+DROP TABLE IF EXISTS `conference_member_stat`;
+
+CREATE TABLE `conference_member_stat` (
+    `id` BIGINT AUTO_INCREMENT NOT NULL,
+    `team_id` BIGINT NOT NULL,
+    `week_start` DATE NOT NULL,
+    `user_id` BIGINT NOT NULL,
+    `scheduled_count` INT NOT NULL,
+    `scheduled_minutes` BIGINT NOT NULL,
+    `done_count` INT NOT NULL,
+    `done_minutes` BIGINT NOT NULL,
+    CONSTRAINT PK_CONFERENCE_MEMBER_STAT PRIMARY KEY(id),
+    UNIQUE KEY `uk_conference_member_stat` (`team_id`, `week_start`, `user_id`),
+    INDEX `idx_conference_member_stat_user` (`user_id`, `week_start`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
 DROP TABLE IF EXISTS `email_auth`;
@@ -160,6 +254,20 @@ REFERENCES `user` (
 	`id`
 );
 
+ALTER TABLE `private_schedule` ADD CONSTRAINT `FK_conference_TO_private_schedule_1` FOREIGN KEY (
+	`conference_id`
+)
+REFERENCES `conference` (
+	`id`
+);
+
+ALTER TABLE `conference_reminder` ADD CONSTRAINT `FK_conference_TO_conference_reminder_1` FOREIGN KEY (
+	`conference_id`
+)
+REFERENCES `conference` (
+	`id`
+);
+
 ALTER TABLE `notification` ADD CONSTRAINT `FK_user_TO_notification_1` FOREIGN KEY (
 	`user_id`
 )
@@ -0,0 +1,76 @@
+# 팀원 하루 일정 조회 쿼리 성능 비교
+# 100만 개의 일정(유저 2,000명 x 500개)을 생성한 뒤 50명의 하루 일정을 조회한다
+#  1) 기존 쿼리 : YEAR/MONTH/DAY 함수 비교, 인덱스 사용 불가
+#  2) 변경 쿼리 : started_time 반열린 구간 비교, (user_id, started_time) 인덱스 범위 조회
+# 외래 키 없이 별도 테이블에서 실행되므로 운영 데이터에 영향을 주지 않는다
+#
+# 실행 계획에서 확인할 내용
+#  - 기존 쿼리 : user_id 인덱스로 50명의 일정 25,000행을 모두 읽은 뒤 함수로 필터링
+#  - 변경 쿼리 : 유저별 하루 범위만 읽어 약 50행 조회, 전체 행 수와 무관하게 팀원 수에 비례
+
+use mefi;
+
+DROP TABLE IF EXISTS `bench_private_schedule`;
+
+CREATE TABLE `bench_private_schedule` (
+    `id` BIGINT AUTO_INCREMENT NOT NULL,
+    `user_id` BIGINT NOT NULL,
+    `started_time` DATETIME NOT NULL,
+    `end_time` DATETIME NOT NULL,
+    `summary` VARCHAR(255) NOT NULL,
+    `description` VARCHAR(255) NOT NULL,
+    `type` ENUM('CONFERENCE', 'BUSINESSTRIP') NOT NULL,
+    CONSTRAINT PK_BENCH_PRIVATE_SCHEDULE PRIMARY KEY (id),
+    INDEX `idx_bench_private_schedule_user` (`user_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+# 100만 개 일정 생성, 유저마다 하루 한 개씩 500일 동안의 일정
+SET SESSION cte_max_recursion_depth = 1000000;
+
+INSERT INTO `bench_private_schedule` (user_id, started_time, end_time, summary, description, type)
+WITH RECURSIVE seq (n) AS (
+    SELECT 0
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 999999
+)
+SELECT n % 2000 + 1,
+       TIMESTAMP('2024-01-01 09:00:00') + INTERVAL (n DIV 2000) DAY + INTERVAL (n % 8) HOUR,
+       TIMESTAMP('2024-01-01 10:00:00') + INTERVAL (n DIV 2000) DAY + INTERVAL (n % 8) HOUR,
+       'benchmark', 'benchmark', 'CONFERENCE'
+FROM seq;
+
+ANALYZE TABLE `bench_private_schedule`;
+
+# 1) 기존 쿼리, 복합 인덱스 없음
+EXPLAIN ANALYZE
+SELECT started_time, end_time FROM `bench_private_schedule`
+WHERE user_id BETWEEN 1 AND 50
+  AND YEAR(started_time) = 2024 AND MONTH(started_time) = 6 AND DAY(started_time) = 1
+ORDER BY started_time;
+
+# 2) 변경 쿼리, 복합 인덱스 없음
+EXPLAIN ANALYZE
+SELECT started_time, end_time FROM `bench_private_schedule`
+WHERE user_id BETWEEN 1 AND 50
+  AND started_time >= '2024-06-01 00:00:00' AND started_time < '2024-06-02 00:00:00'
+ORDER BY started_time;
+
+# 복합 인덱스 추가 (migration/V1__private_schedule_user_started_time_index.sql 과 동일)
+ALTER TABLE `bench_private_schedule` ADD INDEX `idx_bench_private_schedule_user_started` (`user_id`, `started_time`);
+ANALYZE TABLE `bench_private_schedule`;
+
+# 3) 기존 쿼리, 복합 인덱스 있음 : 함수 비교 때문에 여전히 범위 조회 불가
+EXPLAIN ANALYZE
+SELECT started_time, end_time FROM `bench_private_schedule`
+WHERE user_id BETWEEN 1 AND 50
+  AND YEAR(started_time) = 2024 AND MONTH(started_time) = 6 AND DAY(started_time) = 1
+ORDER BY started_time;
+
+# 4) 변경 쿼리, 복합 인덱스 있음 : 유저별 하루 범위만 조회
+EXPLAIN ANALYZE
+SELECT started_time, end_time FROM `bench_private_schedule`
+WHERE user_id BETWEEN 1 AND 50
+  AND started_time >= '2024-06-01 00:00:00' AND started_time < '2024-06-02 00:00:00'
+ORDER BY started_time;
+
+DROP TABLE `bench_private_schedule`;
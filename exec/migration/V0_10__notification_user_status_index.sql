@@ -0,0 +1,8 @@
+# 읽지 않은 알림 개수 조회를 위한 (user_id, status) 인덱스 추가
+# 알림 엔티티를 불러오지 않고 인덱스만으로 COUNT를 처리한다
+
+use mefi;
+
+ALTER TABLE `notification`
+    ADD INDEX `idx_notification_user_status` (`user_id`, `status`),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,8 @@
+# 알림 목록 커서 조회를 위한 (user_id, id) 인덱스 추가
+# user_id = ? AND id < ? ORDER BY id DESC 조건을 OFFSET 없이 인덱스 범위 조회로 처리한다
+
+use mefi;
+
+ALTER TABLE `notification`
+    ADD INDEX `idx_notification_user_id` (`user_id`, `id`),
+    ALGORITHM=INPLACE, LOCK=NONE;
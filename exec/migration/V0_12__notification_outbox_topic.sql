@@ -0,0 +1,8 @@
+# 아웃박스에 실시간 전송 병합 주제 컬럼 추가
+# 다른 노드도 같은 주제의 알림 전송을 합칠 수 있도록 알림과 함께 전달한다, 주제가 없는 알림은 NULL
+
+use mefi;
+
+ALTER TABLE `notification_outbox`
+    ADD COLUMN `topic` VARCHAR(50) NULL,
+    ALGORITHM=INSTANT;
@@ -0,0 +1,23 @@
+# 보관 기간이 지난 읽은 알림을 옮겨 둘 아카이브 테이블과 조회용 인덱스 추가
+# 알림 테이블과 같은 식별 ID를 사용하므로 INSERT IGNORE로 여러 번 옮겨도 중복되지 않는다
+
+use mefi;
+
+CREATE TABLE `notification_archive` (
+    `id` BIGINT NOT NULL,
+    `user_id` BIGINT NOT NULL,
+    `message` VARCHAR(255) NOT NULL,
+    `status` BOOLEAN NOT NULL,
+    `created_time` DATETIME NOT NULL,
+    `sender` VARCHAR(255) NOT NULL,
+    `event_id` BIGINT NULL,
+    `archived_time` DATETIME NOT NULL,
+    CONSTRAINT PK_NOTIFICATION_ARCHIVE PRIMARY KEY(id),
+    INDEX `idx_notification_archive_user` (`user_id`, `id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci ROW_FORMAT=COMPRESSED;
+
+# 아카이브 대상(읽음, 보관 기간 경과) 조회를 위한 (status, created_time) 인덱스
+# InnoDB 보조 인덱스에는 기본 키가 포함되므로 (created_time, id) 커서 정렬도 인덱스 순서로 처리한다
+ALTER TABLE `notification`
+    ADD INDEX `idx_notification_status_created` (`status`, `created_time`),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,7 @@
+# 아웃박스로 읽지 않은 알림 개수 변경도 전달하도록 알림 ID를 NULL 허용으로 변경
+# 읽음 처리한 노드는 알림 없이 유저 ID만 기록하고, SSE 연결을 가진 노드는 캐시된 개수를 버리고 다시 조회하여 전송한다
+
+use mefi;
+
+ALTER TABLE `notification_outbox`
+    MODIFY COLUMN `noti_id` BIGINT NULL;
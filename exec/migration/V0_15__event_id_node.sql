@@ -0,0 +1,12 @@
+# 이벤트 ID 생성기의 노드 ID 임대 테이블 추가
+# 노드 ID를 지정하지 않은 서버는 시작할 때 비어 있거나 임대 시간이 지난 노드 ID(0~1023)를 차지하여 서버 사이의 이벤트 ID 충돌을 막는다
+
+use mefi;
+
+CREATE TABLE `event_id_node` (
+    `node_id` INT NOT NULL,
+    `owner` VARCHAR(36) NOT NULL,
+    `expires_time` DATETIME NOT NULL,
+    CONSTRAINT PK_EVENT_ID_NODE PRIMARY KEY(node_id),
+    UNIQUE KEY `uk_event_id_node_owner` (`owner`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,15 @@
+# 노드 간 알림 전달용 아웃박스 테이블 추가
+# 각 노드는 식별 ID 순으로 조회하고, 보관 시간이 지난 행은 created_time 인덱스로 나누어 삭제한다
+# V1 이전 변경(V0_x)은 MEFI_DDL.sql에만 반영되어 있던 알림 관련 객체를 순서대로 옮긴 것이다
+
+use mefi;
+
+CREATE TABLE `notification_outbox` (
+    `id` BIGINT AUTO_INCREMENT NOT NULL,
+    `node_id` VARCHAR(36) NOT NULL,
+    `user_id` BIGINT NOT NULL,
+    `noti_id` BIGINT NOT NULL,
+    `created_time` DATETIME NOT NULL,
+    CONSTRAINT PK_NOTIFICATION_OUTBOX PRIMARY KEY(id),
+    INDEX `idx_notification_outbox_created_time` (`created_time`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,10 @@
+# 알림 스트리밍용 64비트 이벤트 ID 컬럼과 (user_id, event_id) 인덱스 추가
+# 재전송은 user_id = ? AND event_id > ? 범위 조회로 처리한다
+# 기존 알림은 event_id가 NULL로 남으며 재전송 대상에서 제외된다
+
+use mefi;
+
+ALTER TABLE `notification`
+    ADD COLUMN `event_id` BIGINT NULL,
+    ADD INDEX `idx_notification_user_event` (`user_id`, `event_id`),
+    ALGORITHM=INPLACE, LOCK=NONE;
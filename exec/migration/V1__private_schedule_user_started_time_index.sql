@@ -0,0 +1,10 @@
+# 팀원 하루 일정 조회(findAllMemberSchedule)를 위한 복합 인덱스 추가
+# (user_id, started_time) 순서이므로 user_id IN (...) AND started_time 범위 조건을 인덱스 범위 조회로 처리한다
+# 외래 키 user_id 도 이 인덱스의 앞부분을 사용하므로 기존 user_id 단일 인덱스는 필요 없어진다
+# 운영 DB에 적용 시 ALGORITHM=INPLACE, LOCK=NONE 으로 테이블 잠금 없이 생성한다
+
+use mefi;
+
+ALTER TABLE `private_schedule`
+    ADD INDEX `idx_private_schedule_user_started` (`user_id`, `started_time`),
+    ALGORITHM=INPLACE, LOCK=NONE;
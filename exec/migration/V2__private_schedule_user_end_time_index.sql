@@ -0,0 +1,8 @@
+# 일정 구간 조회(일정 중복 검사 캐시, 팀원 공통 빈 시간 조회)를 위한 복합 인덱스 추가
+# end_time > 조회 시작 조건을 유저별 범위 조회로 처리하여 지난 일정은 읽지 않는다
+
+use mefi;
+
+ALTER TABLE `private_schedule`
+    ADD INDEX `idx_private_schedule_user_end` (`user_id`, `end_time`),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,37 @@
+# 회의로 등록된 개인 일정에 회의 ID를 연결하여 회의 취소, 수정 시 conference_id로 일괄 처리
+# 기존 회의 일정은 팀원 여부와 회의 시간이 정확히 일치하는 취소되지 않은 회의로 연결한다
+# 같은 시간의 회의가 여러 개라 어느 회의인지 알 수 없는 일정은 연결하지 않고 NULL로 남긴다
+
+use mefi;
+
+ALTER TABLE `private_schedule`
+    ADD COLUMN `conference_id` BIGINT NULL,
+    ADD INDEX `idx_private_schedule_conference` (`conference_id`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+# 외래 키 추가는 foreign_key_checks가 켜져 있으면 INPLACE로 처리할 수 없어 테이블 전체를 복사(ALGORITHM=COPY)한다
+# 복사하는 동안 private_schedule 쓰기가 막히므로 사용량이 적은 시간에 실행한다
+ALTER TABLE `private_schedule` ADD CONSTRAINT `FK_conference_TO_private_schedule_1` FOREIGN KEY (
+	`conference_id`
+)
+REFERENCES `conference` (
+	`id`
+);
+
+# 일정마다 연결할 수 있는 회의가 정확히 하나인 경우만 연결
+# GROUP BY가 있는 파생 테이블은 먼저 구체화되므로 수정 대상 테이블을 서브쿼리에서 읽을 수 있다
+UPDATE `private_schedule` ps
+    JOIN (
+        SELECT s.`id` AS `schedule_id`, MIN(c.`id`) AS `conference_id`
+        FROM `private_schedule` s
+            JOIN `user_team` ut ON ut.`user_id` = s.`user_id`
+            JOIN `conference` c ON c.`team_id` = ut.`team_id`
+                AND c.`call_start` = s.`started_time`
+                AND c.`call_end` = s.`end_time`
+                AND c.`status` <> 'CANCELED'
+        WHERE s.`type` = 'CONFERENCE'
+          AND s.`conference_id` IS NULL
+        GROUP BY s.`id`
+        HAVING COUNT(DISTINCT c.`id`) = 1
+    ) matched ON matched.`schedule_id` = ps.`id`
+SET ps.`conference_id` = matched.`conference_id`;
@@ -0,0 +1,8 @@
+# 팀 회의 이력 커서 조회를 위한 복합 인덱스 추가
+# team_id로 범위를 좁히고 (call_start, id) 역순으로 읽어 정렬 없이 페이지 단위로 조회한다
+
+use mefi;
+
+ALTER TABLE `conference`
+    ADD INDEX `idx_conference_team_call_start` (`team_id`, `call_start`),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,14 @@
+# 회의 시작, 종료 시각에 따른 상태 자동 전환을 위해 진행 중 상태와 인덱스 추가
+# 새 값은 ENUM 끝에 추가해야 테이블 복사 없이 변경된다
+# 예정된 회의와 진행 중인 회의는 전체 회의 중 일부이므로 (status, 시간) 인덱스로 다음 예약 구간만 읽는다
+
+use mefi;
+
+ALTER TABLE `conference`
+    MODIFY COLUMN `status` ENUM('TODO', 'DONE', 'CANCELED', 'IN_PROGRESS') NOT NULL,
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `conference`
+    ADD INDEX `idx_conference_status_call_start` (`status`, `call_start`),
+    ADD INDEX `idx_conference_status_call_end` (`status`, `call_end`),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,16 @@
+# 회의 시작 전 알림 예약 테이블 추가
+# 전송하지 않은 예약은 (sent_time, due_time) 인덱스로 전송 시각 순으로 조회하고 FOR UPDATE SKIP LOCKED로 나누어 가져간다
+
+use mefi;
+
+CREATE TABLE `conference_reminder` (
+    `id` BIGINT AUTO_INCREMENT NOT NULL,
+    `conference_id` BIGINT NOT NULL,
+    `offset_minutes` INT NOT NULL,
+    `due_time` DATETIME NOT NULL,
+    `sent_time` DATETIME NULL,
+    CONSTRAINT PK_CONFERENCE_REMINDER PRIMARY KEY(id),
+    INDEX `idx_conference_reminder_due` (`sent_time`, `due_time`),
+    INDEX `idx_conference_reminder_conference` (`conference_id`),
+    CONSTRAINT `FK_conference_TO_conference_reminder_1` FOREIGN KEY (`conference_id`) REFERENCES `conference` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
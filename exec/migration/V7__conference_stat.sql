@@ -0,0 +1,55 @@
+# 팀별, 팀원별 주간 회의 집계 테이블 추가
+# 이후 회의 생성, 수정, 종료, 취소 시 애플리케이션이 해당 회의가 속한 주의 값만 증감한다
+# 기존 회의는 아래 INSERT ... SELECT로 한 번 채우고, 이후 어긋난 값은 주기적 다시 계산 작업이 바로잡는다
+
+use mefi;
+
+CREATE TABLE `conference_team_stat` (
+    `id` BIGINT AUTO_INCREMENT NOT NULL,
+    `team_id` BIGINT NOT NULL,
+    `week_start` DATE NOT NULL,
+    `scheduled_count` INT NOT NULL,
+    `scheduled_minutes` BIGINT NOT NULL,
+    `done_count` INT NOT NULL,
+    `done_minutes` BIGINT NOT NULL,
+    `canceled_count` INT NOT NULL,
+    CONSTRAINT PK_CONFERENCE_TEAM_STAT PRIMARY KEY(id),
+    UNIQUE KEY `uk_conference_team_stat` (`team_id`, `week_start`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `conference_member_stat` (
+    `id` BIGINT AUTO_INCREMENT NOT NULL,
+    `team_id` BIGINT NOT NULL,
+    `week_start` DATE NOT NULL,
+    `user_id` BIGINT NOT NULL,
+    `scheduled_count` INT NOT NULL,
+    `scheduled_minutes` BIGINT NOT NULL,
+    `done_count` INT NOT NULL,
+    `done_minutes` BIGINT NOT NULL,
+    CONSTRAINT PK_CONFERENCE_MEMBER_STAT PRIMARY KEY(id),
+    UNIQUE KEY `uk_conference_member_stat` (`team_id`, `week_start`, `user_id`),
+    INDEX `idx_conference_member_stat_user` (`user_id`, `week_start`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `conference_team_stat` (team_id, week_start, scheduled_count, scheduled_minutes, done_count, done_minutes, canceled_count)
+SELECT c.team_id,
+       DATE_SUB(DATE(c.call_start), INTERVAL WEEKDAY(c.call_start) DAY) AS week,
+       SUM(c.status <> 'CANCELED'),
+       SUM((c.status <> 'CANCELED') * TIMESTAMPDIFF(MINUTE, c.call_start, c.call_end)),
+       SUM(c.status = 'DONE'),
+       SUM((c.status = 'DONE') * TIMESTAMPDIFF(MINUTE, c.call_start, c.call_end)),
+       SUM(c.status = 'CANCELED')
+FROM `conference` c
+GROUP BY c.team_id, week;
+
+INSERT INTO `conference_member_stat` (team_id, week_start, user_id, scheduled_count, scheduled_minutes, done_count, done_minutes)
+SELECT c.team_id,
+       DATE_SUB(DATE(c.call_start), INTERVAL WEEKDAY(c.call_start) DAY) AS week,
+       ps.user_id,
+       SUM(c.status <> 'CANCELED'),
+       SUM((c.status <> 'CANCELED') * TIMESTAMPDIFF(MINUTE, c.call_start, c.call_end)),
+       SUM(c.status = 'DONE'),
+       SUM((c.status = 'DONE') * TIMESTAMPDIFF(MINUTE, c.call_start, c.call_end))
+FROM `conference` c
+JOIN `private_schedule` ps ON ps.conference_id = c.id
+GROUP BY c.team_id, week, ps.user_id;
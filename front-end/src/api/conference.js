@@ -10,9 +10,26 @@ const detailConference = async (param, conferenceId, success, fail) => {
   interceptor.defaults.headers['Authorization'] = 'Bearer ' + localStorage.getItem('accessToken')
   await interceptor.get(`/meeting/detail/${conferenceId}`, param).then(success).catch(fail)
 }
+// 회의 이력은 커서 단위로 반환되므로 다음 페이지가 없을 때까지 모두 조회한 뒤 회의 목록을 전달
 const getConferenceHistory = async (param, query, success, fail) => {
   interceptor.defaults.headers['Authorization'] = 'Bearer ' + localStorage.getItem('accessToken')
-  await interceptor.get(`/meeting/${param}?start=${query}&end=${query}`).then(success).catch(fail)
+  try {
+    const conferences = []
+    let cursor = {}
+    let hasNext = true
+    while (hasNext) {
+      const response = await interceptor.get(`/meeting/${param}`, {
+        params: { start: query, end: query, size: 100, ...cursor }
+      })
+      const page = response.data.dataBody
+      conferences.push(...page.conferences)
+      cursor = { cursorTime: page.nextCursorTime, cursorId: page.nextCursorId }
+      hasNext = page.hasNext
+    }
+    success(conferences)
+  } catch (error) {
+    fail(error)
+  }
 }
 const cancelMeeting = async (param, conferenceId, success, fail) => {
   interceptor.defaults.headers['Authorization'] = 'Bearer ' + localStorage.getItem('accessToken')